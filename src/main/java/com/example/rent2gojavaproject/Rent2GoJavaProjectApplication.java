@@ -1,9 +1,7 @@
 package com.example.rent2gojavaproject;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
 public class Rent2GoJavaProjectApplication {
@@ -13,10 +11,4 @@ public class Rent2GoJavaProjectApplication {
         SpringApplication.run(Rent2GoJavaProjectApplication.class, args);
 
     }
-
-    @Bean
-    public ModelMapper getModelMapper() {
-        return new ModelMapper();
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.rent2gojavaproject.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Local caches for reference data and sign-in lookups. Every write in the owning manager evicts
+ * its cache through {@code TableVersions}, the TTL only bounds how stale a row changed behind the
+ * application's back can get. Caching wraps the service transaction, so a hit never borrows a
+ * connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String BRANDS = "brands";
+    public static final String MODELS = "models";
+    public static final String COLORS = "colors";
+    public static final String CITIES = "cities";
+    public static final String DISTRICTS = "districts";
+    public static final String USER_DETAILS = "userDetails";
+
+    @Bean
+    public CacheManager cacheManager() {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(BRANDS, MODELS, COLORS, CITIES, DISTRICTS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(USER_DETAILS, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.rent2gojavaproject.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Open-session-in-view is off: managers run every read in a read-only transaction and map to
+ * response DTOs before returning, so nothing is lazily loaded while the response is written and a
+ * request only holds a connection for as long as its transaction.
+ */
+@Configuration
+@PropertySource("classpath:persistence.properties")
+public class PersistenceConfig {
+}
@@ -0,0 +1,19 @@
+package com.example.rent2gojavaproject.config;
+
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersionInterceptor;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@AllArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final TableVersionInterceptor tableVersionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(tableVersionInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.abstracts.BillService;
@@ -22,9 +23,9 @@ public class BillsController {
     private final BillService billService;
 
     @GetMapping("/getall")
-    public DataResult<List<GetBillListResponse>> getAllCar() {
+    public DataResult<List<GetBillListResponse>> getAllCar(CursorPageRequest pageRequest) {
 
-        return this.billService.getAllBills();
+        return this.billService.getAllBills(pageRequest);
     }
 
     @GetMapping("/{id}")
@@ -34,8 +35,8 @@ public class BillsController {
     }
 
     @PostMapping("/add")
-    @ResponseStatus(code = HttpStatus.CREATED)
-    public Result createCar(@RequestBody @Valid AddBillRequest addBillRequest) {
+    @ResponseStatus(code = HttpStatus.ACCEPTED)
+    public DataResult<Long> createCar(@RequestBody @Valid AddBillRequest addBillRequest) {
 
         return this.billService.addBill(addBillRequest);
     }
@@ -55,8 +56,8 @@ public class BillsController {
     }
 
     @GetMapping("/getallsoftdelete")
-    public DataResult<Iterable<GetBillListResponse>> findAll(@RequestParam boolean isActive) {
+    public DataResult<List<GetBillListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
 
-        return this.billService.findAll(isActive);
+        return this.billService.findAll(isActive, pageRequest);
     }
 }
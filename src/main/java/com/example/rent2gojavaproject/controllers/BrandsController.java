@@ -1,7 +1,10 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.core.utilities.versioning.VersionedBy;
 import com.example.rent2gojavaproject.services.abstracts.BrandService;
 import com.example.rent2gojavaproject.services.dtos.requests.brandRequest.AddBrandRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.brandRequest.UpdateBrandRequest;
@@ -23,13 +26,14 @@ public class BrandsController {
     private final BrandService brandService;
 
     @GetMapping("/getall")
+    @VersionedBy(TableVersions.BRANDS)
     public DataResult<List<GetBrandListResponse>> getAllActiveBrands() {
         return brandService.getAllBrands();
     }
 
     @GetMapping("/getAllActiveOrNot")
-    public DataResult<Iterable<GetBrandListResponse>> findAll(@RequestParam boolean isActive) {
-        return this.brandService.findAll(isActive);
+    public DataResult<List<GetBrandListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
+        return this.brandService.findAll(isActive, pageRequest);
     }
 
     @GetMapping("/{id}")
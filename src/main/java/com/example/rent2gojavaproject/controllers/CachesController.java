@@ -0,0 +1,26 @@
+package com.example.rent2gojavaproject.controllers;
+
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.services.abstracts.CacheStatsService;
+import com.example.rent2gojavaproject.services.dtos.responses.cacheResponse.GetCacheStatsResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/caches")
+@AllArgsConstructor
+@CrossOrigin
+public class CachesController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/stats")
+    public DataResult<List<GetCacheStatsResponse>> getStats() {
+        return cacheStatsService.getStats();
+    }
+}
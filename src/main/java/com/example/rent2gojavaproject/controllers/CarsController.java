@@ -1,11 +1,16 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.ErrorsResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.core.utilities.versioning.VersionedBy;
+import com.example.rent2gojavaproject.services.abstracts.CarImportService;
 import com.example.rent2gojavaproject.services.abstracts.CarService;
 import com.example.rent2gojavaproject.services.dtos.requests.carRequest.AddCarRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.carRequest.UpdateCarRequest;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarImportResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,11 +18,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -27,11 +37,13 @@ import java.util.List;
 public class CarsController {
 
     private final CarService carService;
+    private final CarImportService carImportService;
 
     @GetMapping("/getall")
-    public DataResult<List<GetCarListResponse>> getAllCar() {
+    @VersionedBy(TableVersions.CARS)
+    public DataResult<List<GetCarListResponse>> getAllCar(CursorPageRequest pageRequest) {
 
-        return this.carService.getAllCars();
+        return this.carService.getAllCars(pageRequest);
     }
 
     @GetMapping("/{id}")
@@ -40,6 +52,15 @@ public class CarsController {
         return this.carService.getById(id);
     }
 
+    @GetMapping("/available")
+    public DataResult<List<GetCarListResponse>> getAvailableCars(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            CursorPageRequest pageRequest) {
+
+        return this.carService.getAvailableCars(start, end, pageRequest);
+    }
+
     @PostMapping("/add" )
     @ResponseStatus(code = HttpStatus.CREATED)
     public Result createCar(@RequestPart("addCarRequest") AddCarRequest addCarRequest, @RequestPart("file") MultipartFile file) throws IOException {
@@ -47,6 +68,13 @@ public class CarsController {
         return this.carService.addCar(addCarRequest,file);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public DataResult<GetCarImportResponse> importCars(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                       InputStream body) throws IOException {
+
+        return this.carImportService.importCars(body, MediaType.parseMediaType(contentType));
+    }
+
 
     @PutMapping("/update")
     @ResponseStatus(code = HttpStatus.OK)
@@ -63,9 +91,9 @@ public class CarsController {
     }
 
     @GetMapping("/getallsoftdelete")
-    public DataResult<Iterable<GetCarListResponse>> findAll(@RequestParam boolean isActive) {
+    public DataResult<List<GetCarListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
 
-        return this.carService.findAll(isActive);
+        return this.carService.findAll(isActive, pageRequest);
     }
 
 
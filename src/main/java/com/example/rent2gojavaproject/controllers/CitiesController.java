@@ -1,6 +1,8 @@
 package com.example.rent2gojavaproject.controllers;
 
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.core.utilities.versioning.VersionedBy;
 import com.example.rent2gojavaproject.services.abstracts.CityService;
 import com.example.rent2gojavaproject.services.dtos.responses.cityResponse.GetCityListResponse;
 import lombok.AllArgsConstructor;
@@ -20,6 +22,7 @@ public class CitiesController {
     private final CityService cityService;
 
     @GetMapping("/getall")
+    @VersionedBy(TableVersions.CITIES)
     public DataResult<List<GetCityListResponse>> getAllActiveCities() {
         return cityService.getAllCities();
     }
@@ -1,7 +1,10 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.core.utilities.versioning.VersionedBy;
 import com.example.rent2gojavaproject.services.abstracts.ColorService;
 import com.example.rent2gojavaproject.services.dtos.requests.colorRequest.AddColorRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.colorRequest.UpdateColorRequest;
@@ -23,6 +26,7 @@ public class ColorsController {
     private final ColorService colorService;
 
     @GetMapping("/getall")
+    @VersionedBy(TableVersions.COLORS)
     public DataResult<List<GetColorListResponse>> getAllColor() {
 
         return this.colorService.getAllColors();
@@ -58,9 +62,9 @@ public class ColorsController {
     }
 
     @GetMapping("/filteredgetall")
-    public DataResult<Iterable<GetColorListResponse>> findAll(@RequestParam boolean isActive) {
+    public DataResult<List<GetColorListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
 
-        return this.colorService.findAll(isActive);
+        return this.colorService.findAll(isActive, pageRequest);
     }
 
 
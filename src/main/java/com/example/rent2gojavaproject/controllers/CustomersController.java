@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.abstracts.CustomerService;
@@ -22,14 +23,14 @@ public class CustomersController {
     private final CustomerService customerService;
 
     @GetMapping("/getall")
-    public DataResult<List<GetCustomerListResponse>> getAllCustomer() {
+    public DataResult<List<GetCustomerListResponse>> getAllCustomer(CursorPageRequest pageRequest) {
 
-        return this.customerService.getAllCustomer();
+        return this.customerService.getAllCustomer(pageRequest);
     }
 
     @GetMapping("/getAllActiveOrNot")
-    public DataResult<Iterable<GetCustomerListResponse>> findAll(@RequestParam boolean isActive) {
-        return this.customerService.findAll(isActive);
+    public DataResult<List<GetCustomerListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
+        return this.customerService.findAll(isActive, pageRequest);
     }
 
     @GetMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.abstracts.DiscountService;
@@ -22,13 +23,13 @@ public class DiscountsController {
     private final DiscountService discountService;
 
     @GetMapping("/getall")
-    public DataResult<List<GetDiscountListResponse>> getAllDiscounts() {
-        return discountService.getAllDiscounts();
+    public DataResult<List<GetDiscountListResponse>> getAllDiscounts(CursorPageRequest pageRequest) {
+        return discountService.getAllDiscounts(pageRequest);
     }
 
     @GetMapping("/getAllActiveOrNot")
-    public DataResult<Iterable<GetDiscountListResponse>> findAll(@RequestParam boolean isActive) {
-        return this.discountService.findAll(isActive);
+    public DataResult<List<GetDiscountListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
+        return this.discountService.findAll(isActive, pageRequest);
     }
 
     @GetMapping("/{id}")
@@ -1,6 +1,8 @@
 package com.example.rent2gojavaproject.controllers;
 
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.core.utilities.versioning.VersionedBy;
 import com.example.rent2gojavaproject.services.abstracts.DistrictService;
 import com.example.rent2gojavaproject.services.dtos.responses.districtResponse.GetDistrictListResponse;
 import lombok.AllArgsConstructor;
@@ -20,6 +22,7 @@ public class DistrictsController {
     private final DistrictService districtService;
 
     @GetMapping("/getall")
+    @VersionedBy(TableVersions.DISTRICTS)
     public DataResult<List<GetDistrictListResponse>> getAllActiveDistricts() {
         return districtService.getAllDistricts();
     }
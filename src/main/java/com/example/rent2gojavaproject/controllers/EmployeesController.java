@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.abstracts.EmployeeService;
@@ -22,13 +23,13 @@ public class EmployeesController {
     private final EmployeeService employeeService;
 
     @GetMapping("/getall")
-    public DataResult<List<GetEmployeeListResponse>> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    public DataResult<List<GetEmployeeListResponse>> getAllEmployees(CursorPageRequest pageRequest) {
+        return employeeService.getAllEmployees(pageRequest);
     }
 
     @GetMapping("/getAllActiveOrNot")
-    public DataResult<Iterable<GetEmployeeListResponse>> findAll(@RequestParam boolean isActive) {
-        return this.employeeService.findAll(isActive);
+    public DataResult<List<GetEmployeeListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
+        return this.employeeService.findAll(isActive, pageRequest);
     }
 
     @GetMapping("/{id}")
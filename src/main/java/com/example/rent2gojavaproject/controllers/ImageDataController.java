@@ -1,7 +1,12 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.storage.StoredImage;
 import com.example.rent2gojavaproject.services.abstracts.ImageDataService;
+import com.example.rent2gojavaproject.services.dtos.responses.imageResponse.GetImageCacheStatsResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/imagedata")
@@ -25,11 +31,33 @@ public class ImageDataController {
 
     }
 
+    // A name can be uploaded again with new content, so clients revalidate against the ETag.
     @GetMapping("/{fileName}")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<byte[]> downloadImage(@PathVariable String fileName) {
+    public ResponseEntity<Resource> downloadImage(@PathVariable String fileName,
+                                                  @RequestParam(defaultValue = "full") String size) throws IOException {
+
+        return serve(dataService.findByName(fileName, size), CacheControl.noCache());
+    }
+
+    @GetMapping("/blobs/{contentHash}")
+    public ResponseEntity<Resource> downloadBlob(@PathVariable String contentHash) throws IOException {
+
+        return serve(dataService.findByHash(contentHash),
+                CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    }
+
+    @GetMapping("/cache/stats")
+    public DataResult<GetImageCacheStatsResponse> getCacheStats() {
+
+        return dataService.getCacheStats();
+    }
 
+    private static ResponseEntity<Resource> serve(StoredImage image, CacheControl cacheControl) {
 
-        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.valueOf("image/png")).body(dataService.downloadImage(fileName));
+        return ResponseEntity.ok()
+                .eTag(image.getContentHash())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(image.getContentType()))
+                .body(image.getContent());
     }
 }
@@ -0,0 +1,33 @@
+package com.example.rent2gojavaproject.controllers;
+
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.results.Result;
+import com.example.rent2gojavaproject.services.abstracts.JobService;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobStatsResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs")
+@AllArgsConstructor
+@CrossOrigin
+public class JobsController {
+
+    private final JobService jobService;
+
+    @GetMapping("/stats")
+    public DataResult<GetJobStatsResponse> getStats() {
+        return jobService.getStats();
+    }
+
+    @GetMapping("/{id}")
+    public DataResult<GetJobResponse> getById(@PathVariable long id) {
+        return jobService.getById(id);
+    }
+
+    @PostMapping("/{id}/retry")
+    public Result retry(@PathVariable long id) {
+        return jobService.retry(id);
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.core.utilities.versioning.VersionedBy;
 import com.example.rent2gojavaproject.services.abstracts.ModelService;
 import com.example.rent2gojavaproject.services.dtos.requests.modelRequest.AddModelRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.modelRequest.UpdateModelRequest;
@@ -22,6 +25,7 @@ public class ModelsController {
     private final ModelService modelService;
 
     @GetMapping("/getall")
+    @VersionedBy(TableVersions.MODELS)
     public DataResult<List<GetModelListResponse>> getAllModels() {
         return modelService.getAllModels();
     }
@@ -50,9 +54,9 @@ public class ModelsController {
     }
 
     @GetMapping("/filteredgetall")
-    public DataResult<Iterable<GetModelListResponse>> findAll(@RequestParam boolean isActive) {
+    public DataResult<List<GetModelListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
 
-        return this.modelService.findAll(isActive);
+        return this.modelService.findAll(isActive, pageRequest);
     }
 
 }
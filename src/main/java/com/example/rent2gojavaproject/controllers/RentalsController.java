@@ -1,11 +1,14 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.abstracts.RentalService;
 import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.AddRentalRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.QuoteRentalsRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.UpdateRentalRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalQuoteResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -23,13 +26,13 @@ public class RentalsController {
     private final RentalService rentalService;
 
     @GetMapping("/getall")
-    public DataResult<List<GetRentalListResponse>> getAllRentals() {
-        return rentalService.getAllRentals();
+    public DataResult<List<GetRentalListResponse>> getAllRentals(CursorPageRequest pageRequest) {
+        return rentalService.getAllRentals(pageRequest);
     }
 
     @GetMapping("/getAllActiveOrNot")
-    public DataResult<Iterable<GetRentalListResponse>> findAll(@RequestParam boolean isActive) {
-        return this.rentalService.findAll(isActive);
+    public DataResult<List<GetRentalListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
+        return this.rentalService.findAll(isActive, pageRequest);
     }
 
     @GetMapping("/{id}")
@@ -43,6 +46,11 @@ public class RentalsController {
         return rentalService.addRental(addRentalRequest);
     }
 
+    @PostMapping("/quotes")
+    public DataResult<List<GetRentalQuoteResponse>> quoteRentals(@RequestBody @Valid QuoteRentalsRequest quoteRentalsRequest) {
+        return rentalService.quoteRentals(quoteRentalsRequest);
+    }
+
     @PutMapping("/update")
     @ResponseStatus(code = HttpStatus.OK)
     public Result updateRental(@RequestBody @Valid UpdateRentalRequest updateRentalRequest) {
@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.controllers;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.abstracts.UserService;
@@ -21,13 +22,13 @@ public class UsersController {
     private final UserService userService;
 
     @GetMapping("/getall")
-    public DataResult<List<GetUserListResponse>> getAllUsers() {
-        return userService.getAllUsers();
+    public DataResult<List<GetUserListResponse>> getAllUsers(CursorPageRequest pageRequest) {
+        return userService.getAllUsers(pageRequest);
     }
 
     @GetMapping("/getAllActiveOrNot")
-    public DataResult<Iterable<GetUserListResponse>> findAll(@RequestParam boolean isActive) {
-        return this.userService.findAll(isActive);
+    public DataResult<List<GetUserListResponse>> findAll(@RequestParam boolean isActive, CursorPageRequest pageRequest) {
+        return this.userService.findAll(isActive, pageRequest);
     }
 
     @GetMapping("/{id}")
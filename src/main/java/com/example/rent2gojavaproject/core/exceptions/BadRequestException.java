@@ -0,0 +1,8 @@
+package com.example.rent2gojavaproject.core.exceptions;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
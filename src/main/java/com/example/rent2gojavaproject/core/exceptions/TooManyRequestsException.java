@@ -0,0 +1,8 @@
+package com.example.rent2gojavaproject.core.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
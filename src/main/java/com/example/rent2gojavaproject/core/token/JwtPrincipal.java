@@ -0,0 +1,38 @@
+package com.example.rent2gojavaproject.core.token;
+
+import com.example.rent2gojavaproject.models.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Authenticated user as described by a verified access token. Built from the claims alone, so
+ * authenticating a request needs no user row.
+ */
+@Getter
+public final class JwtPrincipal implements Principal {
+
+    private final int userId;
+    private final String email;
+    private final Role role;
+    private final int tokenVersion;
+    private final long expiresAtMillis;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(int userId, String email, Role role, int tokenVersion, long expiresAtMillis) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.expiresAtMillis = expiresAtMillis;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.getRoleName()));
+    }
+
+    @Override
+    public String getName() {
+        return this.email;
+    }
+}
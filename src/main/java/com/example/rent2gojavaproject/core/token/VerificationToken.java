@@ -16,7 +16,8 @@ import java.util.Date;
 public class VerificationToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verification_token_seq")
+    @SequenceGenerator(name = "verification_token_seq", sequenceName = "verification_token_seq", allocationSize = 50)
     private Long id;
     private String token;
     private Date expirationTime;
@@ -0,0 +1,89 @@
+package com.example.rent2gojavaproject.core.utilities.ImageDataUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+
+@UtilityClass
+public class ImageResizer {
+
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    /**
+     * Decodes an image, or returns {@code null} when the file is not in a format ImageIO can read or
+     * is too large to decode safely.
+     */
+    public static DecodedImage read(Path file) throws IOException {
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return new DecodedImage(reader.read(0), reader.getFormatName().toLowerCase(Locale.ROOT));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales the image down so its longer side is at most {@code maxSize}. Smaller images are
+     * returned as they are.
+     */
+    public static BufferedImage fit(BufferedImage source, int maxSize) {
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (width <= maxSize && height <= maxSize) {
+            return source;
+        }
+        double scale = (double) maxSize / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    public static void write(BufferedImage image, String formatName, Path target) throws IOException {
+        if (!ImageIO.write(image, formatName, target.toFile())) {
+            throw new IOException("No image writer for format " + formatName);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class DecodedImage {
+
+        private final BufferedImage image;
+
+        private final String formatName;
+    }
+}
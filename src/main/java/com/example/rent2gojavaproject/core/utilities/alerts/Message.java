@@ -7,7 +7,8 @@ public enum Message {
     UPDATE("The update operation was successful!"),
     DELETE("The deletion operation was successful!"),
     GET_ALL("All records were listed!"),
-    GET("The record was found!");
+    GET("The record was found!"),
+    QUEUED("The request was accepted and will be processed shortly!");
 
     private final String message;
 
@@ -0,0 +1,66 @@
+package com.example.rent2gojavaproject.core.utilities.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks shared out by key, so work on the same key is serialized while work on
+ * different keys mostly runs in parallel, without keeping a lock per key alive.
+ */
+public final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+
+    public StripedLocks(int stripes) {
+
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(int key, Supplier<T> action) {
+
+        ReentrantLock lock = stripe(key);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Holds the stripes of both keys. Stripes are always taken in array order, so two callers
+     * locking the same pair in opposite order cannot deadlock.
+     */
+    public <T> T withLocks(int first, int second, Supplier<T> action) {
+
+        int firstIndex = Math.floorMod(first, this.locks.length);
+        int secondIndex = Math.floorMod(second, this.locks.length);
+        if (firstIndex == secondIndex) {
+            return withLock(first, action);
+        }
+
+        ReentrantLock lower = this.locks[Math.min(firstIndex, secondIndex)];
+        ReentrantLock higher = this.locks[Math.max(firstIndex, secondIndex)];
+        lower.lock();
+        try {
+            higher.lock();
+            try {
+                return action.get();
+            } finally {
+                higher.unlock();
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+
+    private ReentrantLock stripe(int key) {
+        return this.locks[Math.floorMod(key, this.locks.length)];
+    }
+}
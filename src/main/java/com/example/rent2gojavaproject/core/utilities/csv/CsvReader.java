@@ -0,0 +1,91 @@
+package com.example.rent2gojavaproject.core.utilities.csv;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time, holding only the current record in memory. A field that
+ * starts with a quote may contain commas, line breaks and doubled quotes; a quote anywhere else is
+ * kept as an ordinary character.
+ */
+public class CsvReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int recordLineNumber;
+
+    public CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null at the end of the input. A quoted field left
+     * open at the end of the input raises an {@link EOFException}.
+     */
+    public List<String> readRecord() throws IOException {
+
+        String line = this.reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        this.recordLineNumber = ++this.lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int position = 0;
+        while (true) {
+            if (position == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = this.reader.readLine();
+                if (line == null) {
+                    throw new EOFException("Unterminated quoted field");
+                }
+                this.lineNumber++;
+                field.append('\n');
+                position = 0;
+                continue;
+            }
+
+            char current = line.charAt(position++);
+            if (quoted) {
+                if (current != QUOTE) {
+                    field.append(current);
+                } else if (position < line.length() && line.charAt(position) == QUOTE) {
+                    field.append(QUOTE);
+                    position++;
+                } else {
+                    quoted = false;
+                }
+            } else if (current == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (current == QUOTE && !wasQuoted && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else {
+                field.append(current);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * The line the last record started on, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return this.recordLineNumber;
+    }
+}
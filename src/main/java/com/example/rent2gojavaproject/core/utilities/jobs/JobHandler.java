@@ -0,0 +1,15 @@
+package com.example.rent2gojavaproject.core.utilities.jobs;
+
+/**
+ * Runs one type of background job. Handlers are picked up as beans by their type name; the payload
+ * is stored as JSON and read back into {@link #getPayloadType()} before {@link #handle} is called.
+ * Throwing from {@code handle} schedules a retry.
+ */
+public interface JobHandler<T> {
+
+    String getType();
+
+    Class<T> getPayloadType();
+
+    void handle(T payload) throws Exception;
+}
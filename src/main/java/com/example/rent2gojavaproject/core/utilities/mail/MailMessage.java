@@ -0,0 +1,58 @@
+package com.example.rent2gojavaproject.core.utilities.mail;
+
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One outgoing mail and its delivery state. Everything a worker needs travels with the message,
+ * nothing is kept in shared fields.
+ */
+@Getter
+public final class MailMessage {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final long id = SEQUENCE.incrementAndGet();
+    private final String to;
+    private final String subject;
+    private final String text;
+    private final String html;
+    private volatile MailStatus status = MailStatus.QUEUED;
+    private volatile int attempts;
+    private volatile String lastError;
+    private final CompletableFuture<MailMessage> completion = new CompletableFuture<>();
+
+    public MailMessage(String to, String subject, String text, String html) {
+        this.to = to;
+        this.subject = subject;
+        this.text = text;
+        this.html = html;
+    }
+
+    public void sent() {
+        this.attempts++;
+        this.status = MailStatus.SENT;
+        this.completion.complete(this);
+    }
+
+    public void failedAttempt(String error, boolean retrying) {
+        this.attempts++;
+        this.lastError = error;
+        this.status = retrying ? MailStatus.RETRYING : MailStatus.FAILED;
+        if (!retrying) {
+            this.completion.completeExceptionally(new IllegalStateException(error));
+        }
+    }
+
+    public void requeued() {
+        this.status = MailStatus.QUEUED;
+    }
+
+    public void rejected(String error) {
+        this.lastError = error;
+        this.status = MailStatus.FAILED;
+        this.completion.completeExceptionally(new IllegalStateException(error));
+    }
+}
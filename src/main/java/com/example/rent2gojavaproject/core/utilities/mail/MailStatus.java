@@ -0,0 +1,8 @@
+package com.example.rent2gojavaproject.core.utilities.mail;
+
+public enum MailStatus {
+    QUEUED,
+    RETRYING,
+    SENT,
+    FAILED
+}
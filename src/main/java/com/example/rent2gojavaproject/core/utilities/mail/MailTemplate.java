@@ -0,0 +1,91 @@
+package com.example.rent2gojavaproject.core.utilities.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A mail body split once into literal text and {@code {{placeholder}}} slots, so rendering is a
+ * single pass into a presized builder. Values are HTML-escaped when the template is HTML.
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] keys;
+    private final boolean html;
+    private final int literalLength;
+
+    private MailTemplate(String[] literals, String[] keys, boolean html) {
+        this.literals = literals;
+        this.keys = keys;
+        this.html = html;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MailTemplate html(String source) {
+        return compile(source, true);
+    }
+
+    public static MailTemplate text(String source) {
+        return compile(source, false);
+    }
+
+    private static MailTemplate compile(String source, boolean html) {
+
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open);
+            }
+            literals.add(source.substring(position, open));
+            keys.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new MailTemplate(literals.toArray(String[]::new), keys.toArray(String[]::new), html);
+    }
+
+    public String render(Map<String, String> values) {
+
+        StringBuilder builder = new StringBuilder(this.literalLength + 64 * this.keys.length);
+        for (int i = 0; i < this.keys.length; i++) {
+            builder.append(this.literals[i]);
+            String value = values.get(this.keys[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("No value for placeholder " + this.keys[i]);
+            }
+            if (this.html) {
+                appendEscaped(builder, value);
+            } else {
+                builder.append(value);
+            }
+        }
+        return builder.append(this.literals[this.keys.length]).toString();
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> builder.append("&amp;");
+                case '<' -> builder.append("&lt;");
+                case '>' -> builder.append("&gt;");
+                case '"' -> builder.append("&quot;");
+                case '\'' -> builder.append("&#39;");
+                default -> builder.append(c);
+            }
+        }
+    }
+}
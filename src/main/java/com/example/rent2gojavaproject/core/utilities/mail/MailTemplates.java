@@ -0,0 +1,63 @@
+package com.example.rent2gojavaproject.core.utilities.mail;
+
+public final class MailTemplates {
+
+    public static final MailTemplate VERIFICATION_HTML = MailTemplate.html("""
+            <html>\
+            <body style='font-family: "Roboto", sans-serif; margin:0; padding:0;'>\
+            <div style='padding: 50px;'>\
+            <div style='max-width: 600px; margin: auto; background-color: white; border-radius: 5px; padding: 20px; box-shadow: 0px 0px 10px rgba(0,0,0,0.1);'>\
+            <h1 style='color: #445566; text-align:center;'>Welcome to Rent2Go!</h1>\
+            <p>Dear {{name}} {{surname}},</p>\
+            <p>Thank you for registering with us. To complete your registration, please click the button below:</p>\
+            <div style='text-align:center; margin-bottom:20px;'>\
+            <a href="{{url}}" style='background-color: #5D9CEC; color: white; text-decoration: none; padding: 10px 20px; border-radius:5px; box-shadow: 0px 3px 6px rgba(0,0,0,0.1); display: inline-block;'>Verify Your Email</a>\
+            </div>\
+            <p>If the button doesn't work, you can also copy and paste the following link into your web browser:</p>\
+            <p><a href="{{url}}" style='color:#5D9CEC'>{{url}}</a></p>\
+            <p>Once your email is verified, you'll be able to start browsing our vast selection of vehicles and make your first reservation. We're excited to have you on board!</p>\
+            <p style='border-top: 1px solid #DDDDDD; padding-top:20px; color:#888888'>Best Regards,<br>The Rent2Go Team</p>\
+            </div>\
+            </div>\
+            </body>\
+            </html>""");
+
+    public static final MailTemplate VERIFICATION_TEXT = MailTemplate.text("""
+            Dear {{name}} {{surname}},
+            Thank you for registering with us. To complete your registration, please visit the following URL:
+            {{url}}
+            Once your email is verified, you'll be able to start browsing our vast selection of vehicles and make your first reservation. We're excited to have you on board!
+            Best Regards,
+            The Rent2Go Team""");
+
+    public static final MailTemplate RESET_PASSWORD_HTML = MailTemplate.html("""
+            <html>\
+            <body style='font-family: "Roboto", sans-serif; margin:0; padding:0;'>\
+            <div style='padding: 50px;'>\
+            <div style='max-width: 600px; margin: auto; background-color: white; border-radius: 5px; padding: 20px; box-shadow: 0px 0px 10px rgba(0,0,0,0.1);'>\
+            <h1 style='color: #445566; text-align:center;'>Reset Password</h1>\
+            <p>Dear {{name}} {{surname}},</p>\
+            <p>You have requested to reset your password. To complete your password reset, please click the button below:</p>\
+            <div style='text-align:center; margin-bottom:20px;'>\
+            <a href="{{url}}" style='background-color: #5D9CEC; color: white; text-decoration: none; padding: 10px 20px; border-radius:5px; box-shadow: 0px 3px 6px rgba(0,0,0,0.1); display: inline-block;'>Reset Password</a>\
+            </div>\
+            <p>If the button doesn't work, you can also copy and paste the following link into your web browser:</p>\
+            <p><a href="{{url}}" style='color:#5D9CEC'>{{url}}</a></p>\
+            <p>If you did not request a password reset, please ignore this email.</p>\
+            <p style='border-top: 1px solid #DDDDDD; padding-top:20px; color:#888888'>Best Regards,<br>The Rent2Go Team</p>\
+            </div>\
+            </div>\
+            </body>\
+            </html>""");
+
+    public static final MailTemplate RESET_PASSWORD_TEXT = MailTemplate.text("""
+            Dear {{name}} {{surname}},
+            You have requested to reset your password. To complete your password reset, please visit the following URL:
+            {{url}}
+            If you did not request a password reset, please ignore this email.
+            Best Regards,
+            The Rent2Go Team""");
+
+    private MailTemplates() {
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.rent2gojavaproject.core.utilities.mappers;
+
+public interface DtoMapper {
+
+    <D> D map(Object source, Class<D> destinationType);
+}
@@ -0,0 +1,72 @@
+package com.example.rent2gojavaproject.core.utilities.mappers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable table of hand-written mapping functions. Lookups go through a {@link ClassValue}
+ * keyed by the runtime source class, so Hibernate proxies resolve to the mappings of the entity
+ * they extend and the superclass walk happens only once per class.
+ */
+final class MapperRegistry implements DtoMapper {
+
+    private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> mappings;
+
+    private final ClassValue<Map<Class<?>, Function<Object, Object>>> bySourceClass = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Function<Object, Object>> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                Map<Class<?>, Function<Object, Object>> found = mappings.get(current);
+                if (found != null) {
+                    return found;
+                }
+            }
+            return Map.of();
+        }
+    };
+
+    private MapperRegistry(Map<Class<?>, Map<Class<?>, Function<Object, Object>>> mappings) {
+        this.mappings = mappings;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public <D> D map(Object source, Class<D> destinationType) {
+
+        if (source == null) {
+            throw new IllegalArgumentException("source cannot be null");
+        }
+
+        Function<Object, Object> mapping = this.bySourceClass.get(source.getClass()).get(destinationType);
+        if (mapping == null) {
+            throw new IllegalArgumentException("No mapping from " + source.getClass().getName()
+                    + " to " + destinationType.getName());
+        }
+        return destinationType.cast(mapping.apply(source));
+    }
+
+    static final class Builder {
+
+        private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> mappings = new HashMap<>();
+
+        private Builder() {
+        }
+
+        @SuppressWarnings("unchecked")
+        <S, D> Builder add(Class<S> sourceType, Class<D> destinationType, Function<? super S, ? extends D> mapping) {
+            this.mappings.computeIfAbsent(sourceType, type -> new HashMap<>())
+                    .put(destinationType, (Function<Object, Object>) mapping);
+            return this;
+        }
+
+        MapperRegistry build() {
+            Map<Class<?>, Map<Class<?>, Function<Object, Object>>> copy = new HashMap<>();
+            this.mappings.forEach((sourceType, targets) -> copy.put(sourceType, Map.copyOf(targets)));
+            return new MapperRegistry(Map.copyOf(copy));
+        }
+    }
+}
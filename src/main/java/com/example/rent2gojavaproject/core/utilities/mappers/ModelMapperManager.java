@@ -1,29 +1,20 @@
 package com.example.rent2gojavaproject.core.utilities.mappers;
 
-import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.stereotype.Service;
 
 @Service
-@AllArgsConstructor
 public class ModelMapperManager implements ModelMapperService {
-    private ModelMapper modelMapper;
+
+    private final DtoMapper responseMapper = ResponseMappers.create();
+    private final DtoMapper requestMapper = RequestMappers.create();
 
     @Override
-    public ModelMapper forResponse() {
-        this.modelMapper.getConfiguration()
-                .setAmbiguityIgnored(true)
-                .setMatchingStrategy(MatchingStrategies.LOOSE);
-        return this.modelMapper;
+    public DtoMapper forResponse() {
+        return this.responseMapper;
     }
 
     @Override
-    public ModelMapper forRequest() {
-        this.modelMapper.getConfiguration()
-                .setAmbiguityIgnored(true)
-                .setMatchingStrategy(MatchingStrategies.STANDARD);
-
-        return this.modelMapper;
+    public DtoMapper forRequest() {
+        return this.requestMapper;
     }
 }
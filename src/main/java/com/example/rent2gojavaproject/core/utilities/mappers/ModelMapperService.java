@@ -1,9 +1,7 @@
 package com.example.rent2gojavaproject.core.utilities.mappers;
 
-import org.modelmapper.ModelMapper;
-
 public interface ModelMapperService {
-    ModelMapper forResponse();
+    DtoMapper forResponse();
 
-    ModelMapper forRequest();
+    DtoMapper forRequest();
 }
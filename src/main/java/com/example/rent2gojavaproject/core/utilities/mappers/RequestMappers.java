@@ -0,0 +1,259 @@
+package com.example.rent2gojavaproject.core.utilities.mappers;
+
+import com.example.rent2gojavaproject.models.Bill;
+import com.example.rent2gojavaproject.models.BodyType;
+import com.example.rent2gojavaproject.models.Brand;
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.models.City;
+import com.example.rent2gojavaproject.models.Color;
+import com.example.rent2gojavaproject.models.Customer;
+import com.example.rent2gojavaproject.models.Discount;
+import com.example.rent2gojavaproject.models.District;
+import com.example.rent2gojavaproject.models.Employee;
+import com.example.rent2gojavaproject.models.FuelType;
+import com.example.rent2gojavaproject.models.GearType;
+import com.example.rent2gojavaproject.models.Model;
+import com.example.rent2gojavaproject.models.Rental;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.services.dtos.requests.billRequest.AddBillRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.billRequest.UpdateBillRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.brandRequest.AddBrandRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.carRequest.AddCarRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.carRequest.UpdateCarRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.colorRequest.AddColorRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.colorRequest.UpdateColorRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.customerRequest.AddCustomerRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.customerRequest.UpdateCustomerRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.discountRequest.AddDiscountRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.discountRequest.UpdateDiscountRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.employeeRequest.AddEmployeeRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.employeeRequest.UpdateEmployeeRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.modelRequest.AddModelRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.modelRequest.UpdateModelRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.AddRentalRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.UpdateRentalRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.userRequest.UpdateUserRequest;
+
+/**
+ * Request to entity mappings. Foreign keys become id-only references, which is all the
+ * persistence context needs to write the join column.
+ */
+final class RequestMappers {
+
+    private RequestMappers() {
+    }
+
+    static DtoMapper create() {
+        return MapperRegistry.builder()
+                .add(AddBillRequest.class, Bill.class, request -> {
+                    Bill bill = new Bill();
+                    bill.setRentalStartDate(request.getDate());
+                    bill.setRentalPrice(request.getPrice());
+                    bill.setUser(new User(request.getUserId()));
+                    return bill;
+                })
+                .add(UpdateBillRequest.class, Bill.class, request -> {
+                    Bill bill = new Bill();
+                    bill.setId(request.getId());
+                    bill.setRentalStartDate(request.getDate());
+                    bill.setRentalPrice(request.getPrice());
+                    bill.setUser(new User(request.getUserId()));
+                    return bill;
+                })
+                .add(AddBrandRequest.class, Brand.class, request -> {
+                    Brand brand = new Brand();
+                    brand.setName(request.getName());
+                    return brand;
+                })
+                .add(AddCarRequest.class, Car.class, request -> {
+                    Car car = new Car();
+                    car.setKilometer(request.getKilometer());
+                    car.setYear(request.getYear());
+                    car.setDailyPrice(request.getDailyPrice());
+                    car.setPlate(request.getPlate());
+                    car.setModel(model(request.getModelId()));
+                    car.setColor(color(request.getColorId()));
+                    car.setBodyType(request.getBodyType() == null ? null : BodyType.valueOf(request.getBodyType()));
+                    car.setFuelType(request.getFuelType() == null ? null : FuelType.valueOf(request.getFuelType()));
+                    car.setGearType(request.getGearType() == null ? null : GearType.valueOf(request.getGearType()));
+                    car.setCylinderCount(request.getCylinderCount());
+                    car.setEnginePower(request.getEnginePower());
+                    return car;
+                })
+                .add(UpdateCarRequest.class, Car.class, request -> {
+                    Car car = new Car();
+                    car.setId(request.getId());
+                    car.setKilometer(request.getKilometer());
+                    car.setYear(request.getYear());
+                    car.setDailyPrice(request.getDailyPrice());
+                    car.setPlate(request.getPlate());
+                    car.setModel(model(request.getModelId()));
+                    car.setColor(color(request.getColorId()));
+                    car.setBodyType(request.getBodyType());
+                    car.setFuelType(request.getFuelType());
+                    car.setGearType(request.getGearType());
+                    car.setCylinderCount(request.getCylinderCount());
+                    car.setEnginePower(request.getEnginePower());
+                    car.setImageUrl(request.getImageUrl());
+                    car.setActive(request.isActive());
+                    return car;
+                })
+                .add(AddColorRequest.class, Color.class, request -> {
+                    Color color = new Color();
+                    color.setName(request.getName());
+                    return color;
+                })
+                .add(UpdateColorRequest.class, Color.class, request -> {
+                    Color color = color(request.getId());
+                    color.setName(request.getName());
+                    color.setActive(request.isActive());
+                    return color;
+                })
+                .add(AddCustomerRequest.class, Customer.class, request -> {
+                    Customer customer = new Customer();
+                    customer.setNationalityId(request.getNationalityId());
+                    customer.setUser(new User(request.getUserId()));
+                    customer.setCity(city(request.getCityId()));
+                    customer.setDistrict(district(request.getDistrictId()));
+                    customer.setAddress(request.getAddress());
+                    return customer;
+                })
+                .add(UpdateCustomerRequest.class, Customer.class, request -> {
+                    Customer customer = new Customer();
+                    customer.setId(request.getId());
+                    customer.setNationalityId(request.getNationalityId());
+                    customer.setUser(new User(request.getUserId()));
+                    customer.setCity(city(request.getCityId()));
+                    customer.setDistrict(district(request.getDistrictId()));
+                    customer.setAddress(request.getAddress());
+                    customer.setActive(request.isActive());
+                    return customer;
+                })
+                .add(AddDiscountRequest.class, Discount.class, request -> {
+                    Discount discount = new Discount();
+                    discount.setDiscountCode(request.getDiscountCode());
+                    discount.setPercentage(request.getPercentage());
+                    return discount;
+                })
+                .add(UpdateDiscountRequest.class, Discount.class, request -> {
+                    Discount discount = new Discount();
+                    discount.setId(request.getId());
+                    discount.setDiscountCode(request.getDiscountCode());
+                    discount.setPercentage(request.getPercentage());
+                    discount.setActive(request.isActive());
+                    return discount;
+                })
+                .add(AddEmployeeRequest.class, Employee.class, request -> {
+                    Employee employee = new Employee();
+                    employee.setSalary(request.getSalary());
+                    employee.setCity(city(request.getCityId()));
+                    employee.setDistrict(district(request.getDistrictId()));
+                    employee.setAddress(request.getAddress());
+                    return employee;
+                })
+                .add(UpdateEmployeeRequest.class, Employee.class, request -> {
+                    Employee employee = new Employee();
+                    employee.setId(request.getId());
+                    employee.setSalary(request.getSalary());
+                    employee.setUser(new User(request.getUserId()));
+                    employee.setCity(city(request.getCityId()));
+                    employee.setDistrict(district(request.getDistrictId()));
+                    employee.setAddress(request.getAddress());
+                    employee.setActive(request.isActive());
+                    return employee;
+                })
+                .add(AddModelRequest.class, Model.class, request -> {
+                    Model model = new Model();
+                    model.setName(request.getName());
+                    model.setBrand(brand(request.getBrandId()));
+                    return model;
+                })
+                .add(UpdateModelRequest.class, Model.class, request -> {
+                    Model model = model(request.getId());
+                    model.setName(request.getName());
+                    model.setBrand(brand(request.getBrandId()));
+                    model.setActive(request.isActive());
+                    return model;
+                })
+                .add(AddRentalRequest.class, Rental.class, request -> {
+                    Rental rental = new Rental();
+                    rental.setStartDate(request.getStartDate());
+                    rental.setEndDate(request.getEndDate());
+                    rental.setCar(car(request.getCarId()));
+                    rental.setCustomer(customer(request.getCustomerId()));
+                    rental.setEmployee(employee(request.getEmployeeId()));
+                    return rental;
+                })
+                .add(UpdateRentalRequest.class, Rental.class, request -> {
+                    Rental rental = new Rental();
+                    rental.setId(request.getId());
+                    rental.setStartDate(request.getStartDate());
+                    rental.setEndDate(request.getEndDate());
+                    rental.setReturnDate(request.getReturnDate());
+                    rental.setEndKilometer(request.getEndKilometer());
+                    rental.setCar(car(request.getCarId()));
+                    rental.setCustomer(customer(request.getCustomerId()));
+                    rental.setEmployee(employee(request.getEmployeeId()));
+                    rental.setActive(request.isActive());
+                    return rental;
+                })
+                .add(UpdateUserRequest.class, User.class, request -> {
+                    User user = new User(request.getId());
+                    user.setName(request.getName());
+                    user.setSurname(request.getSurname());
+                    user.setPhoneNumber(request.getPhoneNumber());
+                    user.setEmail(request.getEmail());
+                    user.setImageUrl(request.getImageUrl());
+                    return user;
+                })
+                .build();
+    }
+
+    private static Brand brand(int id) {
+        Brand brand = new Brand();
+        brand.setId(id);
+        return brand;
+    }
+
+    private static Model model(int id) {
+        Model model = new Model();
+        model.setId(id);
+        return model;
+    }
+
+    private static Color color(int id) {
+        Color color = new Color();
+        color.setId(id);
+        return color;
+    }
+
+    private static City city(int id) {
+        City city = new City();
+        city.setId(id);
+        return city;
+    }
+
+    private static District district(int id) {
+        District district = new District();
+        district.setId(id);
+        return district;
+    }
+
+    private static Car car(int id) {
+        Car car = new Car();
+        car.setId(id);
+        return car;
+    }
+
+    private static Customer customer(int id) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        return customer;
+    }
+
+    private static Employee employee(int id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+}
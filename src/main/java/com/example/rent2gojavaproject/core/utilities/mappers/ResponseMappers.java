@@ -0,0 +1,195 @@
+package com.example.rent2gojavaproject.core.utilities.mappers;
+
+import com.example.rent2gojavaproject.models.Bill;
+import com.example.rent2gojavaproject.models.Brand;
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.models.City;
+import com.example.rent2gojavaproject.models.Color;
+import com.example.rent2gojavaproject.models.Customer;
+import com.example.rent2gojavaproject.models.Discount;
+import com.example.rent2gojavaproject.models.District;
+import com.example.rent2gojavaproject.models.Employee;
+import com.example.rent2gojavaproject.models.Job;
+import com.example.rent2gojavaproject.models.Model;
+import com.example.rent2gojavaproject.models.Rental;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.services.dtos.responses.billResponse.GetBillListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.billResponse.GetBillResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.brandResponse.GetBrandListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.brandResponse.GetBrandResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.cityResponse.GetCityListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.colorResponse.GetColorListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.colorResponse.GetColorResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.customerResponse.GetCustomerListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.customerResponse.GetCustomerResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.discountResponse.GetDiscountListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.discountResponse.GetDiscountResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.districtResponse.GetDistrictListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.employeeResponse.GetEmployeeListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.employeeResponse.GetEmployeeResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.modelResponse.GetModelListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.modelResponse.GetModelResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.userResponse.GetUserListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.userResponse.GetUserResponse;
+
+final class ResponseMappers {
+
+    private ResponseMappers() {
+    }
+
+    static DtoMapper create() {
+        return MapperRegistry.builder()
+                .add(Bill.class, GetBillListResponse.class, bill -> new GetBillListResponse(
+                        bill.getId(), userName(bill.getUser()), bill.getRentalStartDate(), bill.getRentalPrice(), userId(bill.getUser())))
+                .add(Bill.class, GetBillResponse.class, bill -> new GetBillResponse(
+                        bill.getId(), userName(bill.getUser()), bill.getRentalStartDate(), bill.getRentalPrice(), userId(bill.getUser())))
+                .add(Brand.class, GetBrandListResponse.class, brand -> new GetBrandListResponse(brand.getId(), brand.getName()))
+                .add(Brand.class, GetBrandResponse.class, brand -> new GetBrandResponse(brand.getId(), brand.getName()))
+                .add(Car.class, GetCarListResponse.class, ResponseMappers::toCarListResponse)
+                .add(Car.class, GetCarResponse.class, ResponseMappers::toCarResponse)
+                .add(City.class, GetCityListResponse.class, city -> new GetCityListResponse(city.getId(), city.getCityName()))
+                .add(Color.class, GetColorListResponse.class, color -> new GetColorListResponse(color.getId(), color.getName()))
+                .add(Color.class, GetColorResponse.class, color -> new GetColorResponse(color.getId(), color.getName()))
+                .add(Customer.class, GetCustomerListResponse.class, ResponseMappers::toCustomerListResponse)
+                .add(Customer.class, GetCustomerResponse.class, ResponseMappers::toCustomerResponse)
+                .add(Discount.class, GetDiscountListResponse.class, discount -> new GetDiscountListResponse(
+                        id(discount.getId()), discount.getDiscountCode(), discount.getPercentage(), 0))
+                .add(Discount.class, GetDiscountResponse.class, discount -> new GetDiscountResponse(
+                        id(discount.getId()), discount.getDiscountCode(), discount.getPercentage(), 0))
+                .add(District.class, GetDistrictListResponse.class, district -> new GetDistrictListResponse(
+                        district.getId(), district.getDistrictName(), district.getCity() == null ? null : district.getCity().getId()))
+                .add(Employee.class, GetEmployeeListResponse.class, ResponseMappers::toEmployeeListResponse)
+                .add(Employee.class, GetEmployeeResponse.class, ResponseMappers::toEmployeeResponse)
+                .add(Job.class, GetJobResponse.class, job -> new GetJobResponse(job.getId(), job.getType(), job.getStatus(),
+                        job.getAttempts(), job.getRunAt(), job.getLastError(), job.getCreatedAt(), job.getFinishedAt()))
+                .add(Model.class, GetModelListResponse.class, model -> new GetModelListResponse(
+                        model.getId(), model.getName(), brandName(model)))
+                .add(Model.class, GetModelResponse.class, ResponseMappers::toModelResponse)
+                .add(Rental.class, GetRentalListResponse.class, ResponseMappers::toRentalListResponse)
+                .add(Rental.class, GetRentalResponse.class, ResponseMappers::toRentalResponse)
+                .add(User.class, GetUserListResponse.class, user -> new GetUserListResponse(
+                        user.getId(), user.getName(), user.getSurname(), user.getPhoneNumber(), user.getEmail(), user.getImageUrl()))
+                .add(User.class, GetUserResponse.class, user -> new GetUserResponse(
+                        user.getId(), user.getName(), user.getSurname(), user.getPhoneNumber(), user.getEmail(), user.getImageUrl()))
+                .build();
+    }
+
+    private static GetCarListResponse toCarListResponse(Car car) {
+        return new GetCarListResponse(car.getId(), car.getKilometer(), car.getYear(), car.getDailyPrice(),
+                car.getPlate(), car.getImageUrl(), car.getThumbnailUrl(), toModelResponse(car.getModel()),
+                colorName(car), car.getBodyType(), car.getFuelType(), car.getGearType(), car.getCylinderCount(),
+                car.getEnginePower());
+    }
+
+    private static GetCarResponse toCarResponse(Car car) {
+        if (car == null) {
+            return null;
+        }
+        return new GetCarResponse(car.getId(), car.getKilometer(), car.getYear(), car.getDailyPrice(),
+                car.getPlate(), car.getImageUrl(), car.getThumbnailUrl(), car.getImageStatus(),
+                toModelResponse(car.getModel()), colorName(car), car.getBodyType(), car.getFuelType(),
+                car.getGearType(), car.getCylinderCount(), car.getEnginePower());
+    }
+
+    private static GetModelResponse toModelResponse(Model model) {
+        if (model == null) {
+            return null;
+        }
+        return new GetModelResponse(model.getId(), model.getName(), brandName(model));
+    }
+
+    private static GetCustomerListResponse toCustomerListResponse(Customer customer) {
+        User user = customer.getUser();
+        return new GetCustomerListResponse(customer.getId(),
+                user == null ? null : user.getName(), user == null ? null : user.getSurname(),
+                user == null ? null : user.getPhoneNumber(), user == null ? null : user.getEmail(),
+                customer.getNationalityId(), cityName(customer.getCity()), districtName(customer.getDistrict()),
+                customer.getAddress());
+    }
+
+    private static GetCustomerResponse toCustomerResponse(Customer customer) {
+        if (customer == null) {
+            return null;
+        }
+        User user = customer.getUser();
+        return new GetCustomerResponse(customer.getId(),
+                user == null ? null : user.getName(), user == null ? null : user.getSurname(),
+                user == null ? null : user.getPhoneNumber(), user == null ? null : user.getEmail(),
+                customer.getNationalityId(), cityName(customer.getCity()), districtName(customer.getDistrict()),
+                customer.getAddress());
+    }
+
+    private static GetEmployeeListResponse toEmployeeListResponse(Employee employee) {
+        User user = employee.getUser();
+        return new GetEmployeeListResponse(employee.getId(),
+                user == null ? null : user.getName(), user == null ? null : user.getSurname(),
+                user == null ? null : user.getPhoneNumber(), user == null ? null : user.getEmail(),
+                cityName(employee.getCity()), districtName(employee.getDistrict()), employee.getAddress(),
+                employee.getSalary());
+    }
+
+    private static GetEmployeeResponse toEmployeeResponse(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+        User user = employee.getUser();
+        return new GetEmployeeResponse(employee.getId(),
+                user == null ? null : user.getName(), user == null ? null : user.getSurname(),
+                user == null ? null : user.getPhoneNumber(), user == null ? null : user.getEmail(),
+                cityName(employee.getCity()), districtName(employee.getDistrict()), employee.getAddress(),
+                employee.getSalary());
+    }
+
+    private static GetRentalListResponse toRentalListResponse(Rental rental) {
+        return new GetRentalListResponse(rental.getId(), rental.getStartDate(), rental.getEndDate(),
+                rental.getReturnDate(), rental.getStartKilometer(), rental.getEndKilometer(), rental.getTotalPrice(),
+                toCarResponse(rental.getCar()), toCustomerResponse(rental.getCustomer()),
+                toEmployeeResponse(rental.getEmployee()), discountPercentage(rental.getDiscount()));
+    }
+
+    private static GetRentalResponse toRentalResponse(Rental rental) {
+        return new GetRentalResponse(rental.getId(), rental.getStartDate(), rental.getEndDate(),
+                rental.getReturnDate(), rental.getStartKilometer(), rental.getEndKilometer(), rental.getTotalPrice(),
+                rental.getCar() == null ? 0 : rental.getCar().getId(),
+                rental.getCustomer() == null ? 0 : rental.getCustomer().getId(),
+                rental.getEmployee() == null ? 0 : rental.getEmployee().getId(),
+                discountPercentage(rental.getDiscount()));
+    }
+
+    private static String brandName(Model model) {
+        return model.getBrand() == null ? null : model.getBrand().getName();
+    }
+
+    private static String colorName(Car car) {
+        return car.getColor() == null ? null : car.getColor().getName();
+    }
+
+    private static String cityName(City city) {
+        return city == null ? null : city.getCityName();
+    }
+
+    private static String districtName(District district) {
+        return district == null ? null : district.getDistrictName();
+    }
+
+    private static String userName(User user) {
+        return user == null ? null : user.getName();
+    }
+
+    private static int userId(User user) {
+        return user == null ? 0 : user.getId();
+    }
+
+    private static double discountPercentage(Discount discount) {
+        return discount == null || discount.getPercentage() == null ? 0 : discount.getPercentage();
+    }
+
+    private static int id(Integer id) {
+        return id == null ? 0 : id;
+    }
+}
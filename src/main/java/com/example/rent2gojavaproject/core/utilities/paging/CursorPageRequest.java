@@ -0,0 +1,19 @@
+package com.example.rent2gojavaproject.core.utilities.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageRequest {
+
+    private String cursor;
+
+    private int size = 20;
+
+    private String sort = "id";
+
+    private String direction = "asc";
+}
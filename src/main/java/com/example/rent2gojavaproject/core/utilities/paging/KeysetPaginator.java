@@ -0,0 +1,244 @@
+package com.example.rent2gojavaproject.core.utilities.paging;
+
+import com.example.rent2gojavaproject.core.exceptions.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Seeks pages with {@code WHERE (sort, id) > (:lastSort, :lastId)} instead of OFFSET, so every
+ * page costs the same no matter how deep the client has scrolled. The cursor handed out with a
+ * page is an opaque base64url token carrying the sort column, the direction and the last keys.
+ */
+@Component
+@AllArgsConstructor
+public class KeysetPaginator {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public <T, R> CursorPage<R> findAll(JpaSpecificationExecutor<T> repository, Class<T> type,
+                                        CursorPageRequest request, Set<String> sortable,
+                                        Function<? super T, R> mapper) {
+
+        return findAll(repository, type, Specification.where(null), request, sortable, mapper);
+    }
+
+    public <T, R> CursorPage<R> findAll(JpaSpecificationExecutor<T> repository, Class<T> type,
+                                        Specification<T> specification, CursorPageRequest request,
+                                        Set<String> sortable, Function<? super T, R> mapper) {
+
+        Seek seek = seek(type, request, sortable);
+        Sort sort = ID.equals(seek.sort())
+                ? Sort.by(seek.direction(), ID)
+                : Sort.by(seek.direction(), seek.sort(), ID);
+        ScrollPosition position = seek.keys() == null ? ScrollPosition.keyset() : ScrollPosition.forward(seek.keys());
+
+        Window<T> window = repository.findBy(specification, query -> query.sortBy(sort).limit(seek.size()).scroll(position));
+
+        List<R> content = window.stream().map(mapper).toList();
+        String next = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            next = encode(new Cursor(seek.sort(), seek.direction().name(), last.getKeys()));
+        }
+
+        return new CursorPage<>(content, next);
+    }
+
+    /**
+     * Same seek as above, but the page is read as a single joined tuple query shaped by the
+     * projection, so no entity and no association is ever loaded.
+     */
+    public <T, R> CursorPage<R> findAll(Class<T> type, KeysetProjection<T, R> projection,
+                                        CursorPageRequest request, Set<String> sortable) {
+
+        return findAll(type, Specification.where(null), projection, request, sortable);
+    }
+
+    public <T, R> CursorPage<R> findAll(Class<T> type, Specification<T> specification,
+                                        KeysetProjection<T, R> projection, CursorPageRequest request,
+                                        Set<String> sortable) {
+
+        return page(type, specification, projection, seek(type, request, sortable));
+    }
+
+    /**
+     * Pages by ascending id over ids chosen outside the database, such as an in-memory index.
+     * {@code ids} receives the last id of the previous page (null on the first page) and how many
+     * ids to return; only the rows of those ids are read through the projection.
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R, I> CursorPage<R> findAllByIds(Class<T> type, KeysetProjection<T, R> projection,
+                                                CursorPageRequest request, BiFunction<I, Integer, List<I>> ids) {
+
+        Seek seek = seek(type, request, Set.of(ID));
+        if (!seek.direction().isAscending()) {
+            throw new BadRequestException("Sort direction must be asc");
+        }
+
+        List<I> pageIds = ids.apply(seek.keys() == null ? null : (I) seek.keys().get(ID), seek.size() + 1);
+        if (pageIds.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        return page(type, (root, query, criteriaBuilder) -> root.get(ID).in(pageIds), projection, seek);
+    }
+
+    private <T, R> CursorPage<R> page(Class<T> type, Specification<T> specification,
+                                      KeysetProjection<T, R> projection, Seek seek) {
+
+        boolean byId = ID.equals(seek.sort());
+
+        CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(type);
+
+        List<Selection<?>> selections = new ArrayList<>(projection.select(root, criteriaBuilder));
+        int keyIndex = selections.size();
+        Path<Object> sortPath = root.get(seek.sort());
+        Path<Object> idPath = root.get(ID);
+        selections.add(sortPath);
+        selections.add(idPath);
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = specification.toPredicate(root, query, criteriaBuilder);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (seek.keys() != null) {
+            Predicate afterId = after(criteriaBuilder, idPath, seek.keys().get(ID), seek.direction());
+            predicates.add(byId ? afterId : criteriaBuilder.or(
+                    after(criteriaBuilder, sortPath, seek.keys().get(seek.sort()), seek.direction()),
+                    criteriaBuilder.and(criteriaBuilder.equal(sortPath, seek.keys().get(seek.sort())), afterId)));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        if (byId) {
+            query.orderBy(order(criteriaBuilder, idPath, seek.direction()));
+        } else {
+            query.orderBy(order(criteriaBuilder, sortPath, seek.direction()), order(criteriaBuilder, idPath, seek.direction()));
+        }
+
+        List<Tuple> rows = this.entityManager.createQuery(query).setMaxResults(seek.size() + 1).getResultList();
+        boolean hasNext = rows.size() > seek.size();
+        if (hasNext) {
+            rows = rows.subList(0, seek.size());
+        }
+
+        List<R> content = rows.stream().map(projection::map).toList();
+        String next = null;
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(seek.sort(), last.get(keyIndex));
+            keys.put(ID, last.get(keyIndex + 1));
+            next = encode(new Cursor(seek.sort(), seek.direction().name(), keys));
+        }
+
+        return new CursorPage<>(content, next);
+    }
+
+    private Seek seek(Class<?> type, CursorPageRequest request, Set<String> sortable) {
+
+        Cursor cursor = request.getCursor() == null || request.getCursor().isBlank()
+                ? new Cursor(request.getSort(), request.getDirection(), null)
+                : decode(request.getCursor());
+
+        if (cursor.sort() == null || !sortable.contains(cursor.sort())) {
+            throw new BadRequestException("Sorting by '" + cursor.sort() + "' is not supported. Use one of " + sortable);
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(cursor.direction())
+                .orElseThrow(() -> new BadRequestException("Sort direction must be asc or desc"));
+        Map<String, Object> keys = cursor.keys() == null ? null : toKeys(type, cursor.sort(), cursor.keys());
+        int size = Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+
+        return new Seek(cursor.sort(), direction, keys, size);
+    }
+
+    private Map<String, Object> toKeys(Class<?> type, String sort, Map<String, Object> raw) {
+
+        if (raw.get(ID) == null || raw.get(sort) == null) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (String property : ID.equals(sort) ? List.of(ID) : List.of(sort, ID)) {
+            Class<?> javaType = this.entityManager.getMetamodel().entity(type).getAttribute(property).getJavaType();
+            try {
+                keys.put(property, this.objectMapper.convertValue(raw.get(property), javaType));
+            } catch (IllegalArgumentException exception) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+        return keys;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(CriteriaBuilder criteriaBuilder, Expression<?> path, Object value, Sort.Direction direction) {
+        return direction.isAscending()
+                ? criteriaBuilder.greaterThan((Expression<Comparable>) path, (Comparable) value)
+                : criteriaBuilder.lessThan((Expression<Comparable>) path, (Comparable) value);
+    }
+
+    private static Order order(CriteriaBuilder criteriaBuilder, Expression<?> path, Sort.Direction direction) {
+        return direction.isAscending() ? criteriaBuilder.asc(path) : criteriaBuilder.desc(path);
+    }
+
+    private String encode(Cursor cursor) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(this.objectMapper.writeValueAsBytes(cursor));
+        } catch (IOException exception) {
+            throw new IllegalStateException("Cursor could not be written", exception);
+        }
+    }
+
+    private Cursor decode(String token) {
+        Cursor cursor;
+        try {
+            cursor = this.objectMapper.readValue(Base64.getUrlDecoder().decode(token), Cursor.class);
+        } catch (IOException | IllegalArgumentException exception) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (cursor == null) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return cursor;
+    }
+
+    record Cursor(String sort, String direction, Map<String, Object> keys) {
+    }
+
+    private record Seek(String sort, Sort.Direction direction, Map<String, Object> keys, int size) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.rent2gojavaproject.core.utilities.paging;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+
+/**
+ * Column list and row mapper for list endpoints that read straight into response DTOs.
+ * {@link #select} adds whatever joins it needs to the root, {@link #map} reads the
+ * selected columns back in the same order.
+ */
+public interface KeysetProjection<T, R> {
+
+    List<Selection<?>> select(Root<T> root, CriteriaBuilder criteriaBuilder);
+
+    R map(Tuple tuple);
+}
@@ -1,10 +1,15 @@
 package com.example.rent2gojavaproject.core.utilities.results;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class DataResult<T> extends Result {
 
 
     private T data;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     public DataResult() {
     }
 
@@ -13,6 +18,12 @@ public class DataResult<T> extends Result {
         this.data = data;
     }
 
+    public DataResult(T data, String message, boolean result, String next) {
+        super(message, result);
+        this.data = data;
+        this.next = next;
+    }
+
     public DataResult(T data, boolean result) {
         super(result);
         this.data = data;
@@ -30,4 +41,12 @@ public class DataResult<T> extends Result {
     public void setData(T data) {
         this.data = data;
     }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
@@ -8,6 +8,10 @@ public class SuccessDataResult<T> extends DataResult<T> {
         super(data, message, true);
     }
 
+    public SuccessDataResult(T data, String message, String next) {
+        super(data, message, true, next);
+    }
+
     public SuccessDataResult(T data) {
         super(data, true);
     }
@@ -0,0 +1,34 @@
+package com.example.rent2gojavaproject.core.utilities.storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "storage.images.type", havingValue = "cloudinary", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CloudinaryImageStorage implements ImageStorage {
+
+    private final Cloudinary cloudinary;
+
+    @Override
+    public String store(String key, Path file, String contentType) throws IOException {
+
+        Map params = ObjectUtils.asMap(
+                "unique_filename", true,
+                "overwrite", true,
+                "public_id", key
+        );
+
+        return cloudinary.uploader()
+                .upload(file.toFile(), params)
+                .get("url")
+                .toString();
+    }
+}
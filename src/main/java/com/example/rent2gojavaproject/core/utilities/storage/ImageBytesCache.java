@@ -0,0 +1,114 @@
+package com.example.rent2gojavaproject.core.utilities.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps popular images in memory, bounded by their total size rather than by count. Blobs are
+ * immutable, so an entry never goes stale. With {@code storage.images.cache-off-heap} the bytes
+ * live in direct buffers and do not count against the Java heap. Images larger than
+ * {@code storage.images.cache-max-entry-bytes} are always served from disk and count as misses.
+ * Hit and miss counts live in their own map, bounded by {@code storage.images.cache-stats-entries},
+ * so an image that keeps being evicted still shows how often it was read from disk.
+ */
+@Component
+public class ImageBytesCache {
+
+    private final Cache<String, ByteBuffer> cache;
+    private final Cache<String, ImageStats> stats;
+    private final long budgetBytes;
+    private final long maxEntryBytes;
+    private final boolean offHeap;
+
+    public ImageBytesCache(@Value("${storage.images.cache-bytes:67108864}") long budgetBytes,
+                           @Value("${storage.images.cache-max-entry-bytes:1048576}") long maxEntryBytes,
+                           @Value("${storage.images.cache-off-heap:false}") boolean offHeap,
+                           @Value("${storage.images.cache-stats-entries:10000}") long statsEntries) {
+        this.budgetBytes = budgetBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, budgetBytes);
+        this.offHeap = offHeap;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(budgetBytes)
+                .weigher((String hash, ByteBuffer buffer) -> buffer.capacity())
+                .recordStats()
+                .build();
+        this.stats = Caffeine.newBuilder()
+                .maximumSize(statsEntries)
+                .build();
+    }
+
+    public Resource get(String contentHash, Path file) throws IOException {
+
+        ImageStats imageStats = this.stats.get(contentHash, hash -> new ImageStats());
+        ByteBuffer cached = this.cache.getIfPresent(contentHash);
+        if (cached != null) {
+            imageStats.hits.increment();
+            return new ByteBufferResource(cached, contentHash);
+        }
+
+        imageStats.misses.increment();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            imageStats.size = size;
+            if (size > this.maxEntryBytes) {
+                return new FileSystemResource(file);
+            }
+            ByteBuffer buffer = this.offHeap ? ByteBuffer.allocateDirect((int) size) : ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the file is in the buffer
+            }
+            buffer.flip();
+            this.cache.put(contentHash, buffer);
+            return new ByteBufferResource(buffer, contentHash);
+        }
+    }
+
+    public CacheStats totals() {
+        return this.cache.stats();
+    }
+
+    public long usedBytes() {
+        return this.cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    public long getBudgetBytes() {
+        return this.budgetBytes;
+    }
+
+    public boolean isOffHeap() {
+        return this.offHeap;
+    }
+
+    public Map<String, ImageStats> perImage() {
+        return Collections.unmodifiableMap(this.stats.asMap());
+    }
+
+    public boolean isCached(String contentHash) {
+        return this.cache.asMap().containsKey(contentHash);
+    }
+
+    @Getter
+    public static final class ImageStats {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private volatile long size;
+    }
+}
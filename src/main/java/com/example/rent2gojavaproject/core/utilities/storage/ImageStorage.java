@@ -0,0 +1,17 @@
+package com.example.rent2gojavaproject.core.utilities.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Where uploaded images end up. The file is read from disk by the implementation, so callers never
+ * need the whole image in memory.
+ */
+public interface ImageStorage {
+
+    /**
+     * Stores the file under {@code key}, replacing any previous image with the same key, and
+     * returns the URL it can be fetched from.
+     */
+    String store(String key, Path file, String contentType) throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.example.rent2gojavaproject.core.utilities.storage;
+
+import java.util.Locale;
+
+/**
+ * Downscaled copies generated next to every uploaded image. The full size is the original itself.
+ */
+public enum ImageVariant {
+    THUMB(160),
+    MEDIUM(640);
+
+    private final int maxSize;
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String keySuffix() {
+        return "_" + name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.rent2gojavaproject.core.utilities.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Keeps images in a local directory. Meant for tests and offline environments.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.images.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+
+    public LocalImageStorage(@Value("${storage.images.local-dir:${java.io.tmpdir}/rent2go-images}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String store(String key, Path file, String contentType) throws IOException {
+
+        Path target = this.root.resolve(key.replaceAll("[^A-Za-z0-9._/-]", "_")).normalize();
+        if (!target.startsWith(this.root) || target.equals(this.root)) {
+            throw new IllegalArgumentException("Invalid image key: " + key);
+        }
+        Files.createDirectories(target.getParent());
+        Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+
+        return target.toUri().toString();
+    }
+}
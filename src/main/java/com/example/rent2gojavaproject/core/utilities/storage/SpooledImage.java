@@ -0,0 +1,18 @@
+package com.example.rent2gojavaproject.core.utilities.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * An uploaded image written to a temporary file, waiting to be handed to {@link ImageStorage}.
+ */
+@Getter
+@AllArgsConstructor
+public final class SpooledImage {
+
+    private final Path file;
+
+    private final String contentType;
+}
@@ -0,0 +1,20 @@
+package com.example.rent2gojavaproject.core.utilities.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * An image blob in the {@link ContentAddressedStore}, with the content type it was uploaded as.
+ */
+@Getter
+@AllArgsConstructor
+public final class StoredImage {
+
+    private final String contentHash;
+
+    private final String contentType;
+
+    private final Resource content;
+}
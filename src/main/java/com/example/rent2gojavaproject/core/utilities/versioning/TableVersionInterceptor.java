@@ -0,0 +1,33 @@
+package com.example.rent2gojavaproject.core.utilities.versioning;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@AllArgsConstructor
+public class TableVersionInterceptor implements HandlerInterceptor {
+
+    private final TableVersions tableVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        VersionedBy versionedBy = handlerMethod.getMethodAnnotation(VersionedBy.class);
+        if (versionedBy == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        return !new ServletWebRequest(request, response).checkNotModified(this.tableVersions.etag(versionedBy.value()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.rent2gojavaproject.core.utilities.versioning;
+
+import com.example.rent2gojavaproject.config.CacheConfig;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
+import com.example.rent2gojavaproject.models.TableVersion;
+import com.example.rent2gojavaproject.repositories.TableVersionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Version counters for the catalogue tables, used as ETags by the list endpoints. The counters live
+ * in the {@code table_versions} table so that every node tags its lists alike: a change bumps the row
+ * after commit, and each node polls the rows, evicting a table's cache whenever its version moved.
+ * A write on one node therefore reaches the others within one refresh interval. The cache is always
+ * evicted before a new version is published, so a new ETag is never paired with a stale cached list.
+ * Rows start at the time they were created, so a recreated database never reissues an old tag.
+ */
+@Component
+public class TableVersions {
+
+    public static final String CARS = "cars";
+    public static final String BRANDS = CacheConfig.BRANDS;
+    public static final String MODELS = CacheConfig.MODELS;
+    public static final String COLORS = CacheConfig.COLORS;
+    public static final String CITIES = CacheConfig.CITIES;
+    public static final String DISTRICTS = CacheConfig.DISTRICTS;
+
+    private static final List<String> TABLES = List.of(CARS, BRANDS, MODELS, COLORS, CITIES, DISTRICTS);
+
+    private final CacheManager cacheManager;
+    private final TableVersionRepository tableVersionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public TableVersions(CacheManager cacheManager,
+                         TableVersionRepository tableVersionRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.cacheManager = cacheManager;
+        this.tableVersionRepository = tableVersionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        Set<String> existing = this.tableVersionRepository.findAll().stream()
+                .map(TableVersion::getName)
+                .collect(Collectors.toSet());
+        long now = System.currentTimeMillis();
+        List<TableVersion> missing = TABLES.stream()
+                .filter(table -> !existing.contains(table))
+                .map(table -> new TableVersion(table, now))
+                .toList();
+        try {
+            this.tableVersionRepository.saveAll(missing);
+        } catch (DataIntegrityViolationException exception) {
+            // another node created the rows first
+        }
+        refresh();
+    }
+
+    public void changed(String... tables) {
+
+        evict(tables);
+        TransactionCallbacks.afterCommit(() -> bump(tables));
+    }
+
+    public long getVersion(String table) {
+        return this.versions.getOrDefault(table, 0L);
+    }
+
+    public String etag(String table) {
+        return "\"" + table + "-" + Long.toString(getVersion(table), 36) + "\"";
+    }
+
+    /**
+     * Picks up versions bumped by any node, evicting the cache of every table that moved.
+     */
+    @Scheduled(initialDelayString = "${catalogue.versions.refresh-ms:1000}", fixedDelayString = "${catalogue.versions.refresh-ms:1000}")
+    public void refresh() {
+
+        for (TableVersion row : this.tableVersionRepository.findAll()) {
+            Long known = this.versions.get(row.getName());
+            if (known == null || known != row.getVersion()) {
+                evict(row.getName());
+                this.versions.put(row.getName(), row.getVersion());
+            }
+        }
+    }
+
+    private void bump(String... tables) {
+
+        this.transactionTemplate.executeWithoutResult(status -> this.tableVersionRepository.increment(List.of(tables)));
+        refresh();
+    }
+
+    private void evict(String... tables) {
+
+        for (String table : tables) {
+            Cache cache = this.cacheManager.getCache(table);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
+    }
+}
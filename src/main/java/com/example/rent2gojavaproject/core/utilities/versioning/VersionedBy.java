@@ -0,0 +1,17 @@
+package com.example.rent2gojavaproject.core.utilities.versioning;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response depends only on the given {@link TableVersions} table, so a
+ * matching {@code If-None-Match} can be answered with 304 before the handler runs.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedBy {
+
+    String value();
+}
@@ -4,22 +4,18 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "bills")
+@Table(name = "bills", indexes = @Index(name = "idx_bills_active_id", columnList = "IS_ACTIVE, id"))
+@NamedEntityGraph(name = "Bill.detail", attributeNodes = @NamedAttributeNode("user"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @SQLDelete(sql = "update bills SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterBill", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterBill", condition = "IS_ACTIVE = :isActive")
 
 public class Bill extends BaseEntity {
 
@@ -28,7 +24,8 @@ public class Bill extends BaseEntity {
     @Column(name = "rental_end_date", nullable = false)
     LocalDate rentalEndDate;
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bills_seq")
+    @SequenceGenerator(name = "bills_seq", sequenceName = "bills_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
     @Column(name = "bill_no", nullable = false, unique = true)
@@ -37,7 +34,7 @@ public class Bill extends BaseEntity {
     private short totalRentalDate;
     @Column(name = "rental_price", nullable = false)
     private double rentalPrice;
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -5,33 +5,29 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
 import java.util.List;
 
 @Entity
-@Table(name = "brands")
+@Table(name = "brands", indexes = @Index(name = "idx_brands_active_id", columnList = "IS_ACTIVE, id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @SQLDelete(sql = "update brands SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterBrand", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterBrand", condition = "IS_ACTIVE = :isActive")
 public class Brand extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brands_seq")
+    @SequenceGenerator(name = "brands_seq", sequenceName = "brands_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
-    @OneToMany(mappedBy = "brand", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "brand", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JsonIgnore
     private List<Model> models;
 
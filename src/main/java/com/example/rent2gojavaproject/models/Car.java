@@ -6,27 +6,27 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
 import java.util.List;
 
 @Entity
-@Table(name = "cars")
+@Table(name = "cars", indexes = @Index(name = "idx_cars_active_id", columnList = "IS_ACTIVE, id"))
+@NamedEntityGraph(name = "Car.detail", attributeNodes = {
+        @NamedAttributeNode(value = "model", subgraph = "model"),
+        @NamedAttributeNode("color")},
+        subgraphs = @NamedSubgraph(name = "model", attributeNodes = @NamedAttributeNode("brand")))
 @Getter
 @SQLDelete(sql = "update cars SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterCar", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterCar", condition = "IS_ACTIVE = :isActive")
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class Car extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cars_seq")
+    @SequenceGenerator(name = "cars_seq", sequenceName = "cars_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
@@ -63,11 +63,18 @@ public class Car extends BaseEntity {
     @Column(name = "image_url")
     private String imageUrl;
 
-    @ManyToOne
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status", length = 20)
+    private ImageStatus imageStatus = ImageStatus.NONE;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "model_id", nullable = false)
     private Model model;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "color_id", nullable = false)
     private Color color;
 
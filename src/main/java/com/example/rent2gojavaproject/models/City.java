@@ -15,7 +15,8 @@ import java.util.List;
 @Table(name = "cities")
 public class City {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cities_seq")
+    @SequenceGenerator(name = "cities_seq", sequenceName = "cities_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "city_name")
@@ -5,19 +5,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
 import java.util.List;
 
 @Entity
-@Table(name = "colors")
+@Table(name = "colors", indexes = @Index(name = "idx_colors_active_id", columnList = "IS_ACTIVE, id"))
 @SQLDelete(sql = "update colors SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterColor", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterColor", condition = "IS_ACTIVE = :isActive")
 
 @Data
 @AllArgsConstructor
@@ -25,7 +20,8 @@ import java.util.List;
 public class Color extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "colors_seq")
+    @SequenceGenerator(name = "colors_seq", sequenceName = "colors_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
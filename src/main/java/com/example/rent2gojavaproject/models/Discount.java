@@ -5,26 +5,22 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
 import java.util.List;
 
 @Entity
-@Table(name = "discounts")
+@Table(name = "discounts", indexes = @Index(name = "idx_discounts_active_id", columnList = "IS_ACTIVE, id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @SQLDelete(sql = "update discounts SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterDiscount", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterDiscount", condition = "IS_ACTIVE = :isActive")
 public class Discount extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "discounts_seq")
+    @SequenceGenerator(name = "discounts_seq", sequenceName = "discounts_seq", allocationSize = 50)
     @Column(name = "id")
     private Integer id;
 
@@ -15,7 +15,8 @@ import java.util.List;
 @Table(name = "districts")
 public class District {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "districts_seq")
+    @SequenceGenerator(name = "districts_seq", sequenceName = "districts_seq", allocationSize = 50)
     private Integer id;
     @Column(name = "district_name")
     private String districtName;
@@ -15,12 +15,21 @@ import lombok.experimental.SuperBuilder;
 public class ImageData {
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "images_seq")
+    @SequenceGenerator(name = "images_seq", sequenceName = "images_seq", allocationSize = 50)
     private int id;
     @Column(name = "name")
     private String name;
     @Column(name = "type")
     private String type;
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    @Column(name = "size_bytes")
+    private Long size;
+    @Column(name = "thumb_hash", length = 64)
+    private String thumbHash;
+    @Column(name = "medium_hash", length = 64)
+    private String mediumHash;
     @Lob
     @Column(name = "image_data", length = 1000)
     private byte[] imageData;
@@ -0,0 +1,9 @@
+package com.example.rent2gojavaproject.models;
+
+
+public enum ImageStatus {
+    NONE,
+    PENDING,
+    READY,
+    FAILED
+}
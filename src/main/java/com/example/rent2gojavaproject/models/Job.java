@@ -0,0 +1,61 @@
+package com.example.rent2gojavaproject.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jobs", indexes = @Index(name = "idx_jobs_status_run_at", columnList = "status, run_at"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
+    @Column(name = "id")
+    private long id;
+
+    @Column(name = "type", nullable = false, length = 100)
+    private String type;
+
+    @Column(name = "payload", nullable = false, length = 10_000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "run_at", nullable = false)
+    private LocalDateTime runAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "last_error", length = 1_000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public Job(String type, String payload) {
+        this.type = type;
+        this.payload = payload;
+        this.status = JobStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.runAt = this.createdAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.rent2gojavaproject.models;
+
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    DEAD
+}
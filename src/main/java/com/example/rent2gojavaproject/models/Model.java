@@ -6,19 +6,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
 import java.util.List;
 
 @Entity
-@Table(name = "models")
+@Table(name = "models", indexes = @Index(name = "idx_models_active_id", columnList = "IS_ACTIVE, id"))
 @SQLDelete(sql = "update models SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterModel", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterModel", condition = "IS_ACTIVE = :isActive")
 
 @Getter
 @Setter
@@ -27,14 +22,15 @@ import java.util.List;
 public class Model extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "models_seq")
+    @SequenceGenerator(name = "models_seq", sequenceName = "models_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
     @Column(name = "name", nullable = false, length = 15)
     private String name;
 
-    @OneToMany(mappedBy = "model", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "model", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JsonIgnore
     private List<Car> cars;
 
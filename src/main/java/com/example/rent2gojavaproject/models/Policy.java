@@ -15,7 +15,8 @@ import java.time.LocalDate;
 public class Policy extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "policies_seq")
+    @SequenceGenerator(name = "policies_seq", sequenceName = "policies_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
@@ -3,25 +3,22 @@ package com.example.rent2gojavaproject.models;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.SQLDelete;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "rentals")
+@Table(name = "rentals", indexes = @Index(name = "idx_rentals_active_id", columnList = "IS_ACTIVE, id"))
+@NamedEntityGraph(name = "Rental.detail", attributeNodes = @NamedAttributeNode("discount"))
 @Data
 @AllArgsConstructor
 @SQLDelete(sql = "update rentals SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterRental", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterRental", condition = "IS_ACTIVE = :isActive")
 public class Rental extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rentals_seq")
+    @SequenceGenerator(name = "rentals_seq", sequenceName = "rentals_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
@@ -43,19 +40,19 @@ public class Rental extends BaseEntity {
     @Column(name = "total_price")
     private double totalPrice;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "car_id", nullable = false)
     private Car car;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "discount_id", nullable = false)
     private Discount discount;
 
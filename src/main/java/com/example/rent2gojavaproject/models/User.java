@@ -3,6 +3,7 @@ package com.example.rent2gojavaproject.models;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,19 +19,18 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_active_id", columnList = "IS_ACTIVE, id"))
 @SuperBuilder
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @SQLDelete(sql = "update users SET IS_ACTIVE = false WHERE id=?")
 //@Where(clause = "IS_ACTIVE=true")
-@FilterDef(name = "isActiveFilterUser", parameters = @ParamDef(name = "isActive", type = Boolean.class))
-@Filter(name = "isActiveFilterUser", condition = "IS_ACTIVE = :isActive")
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
@@ -60,6 +60,9 @@ public class User implements UserDetails {
     @Column(name = "IS_ACTIVE")
     private boolean isEnabled = false;
 
+    @Column(name = "token_version", nullable = false, columnDefinition = "integer default 0")
+    private int tokenVersion;
+
     @Column(name = "CREATED_AT", updatable = false)
     private LocalDate createdAt;
 
@@ -1,7 +1,12 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Bill;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 
-public interface BillRepository extends JpaRepository<Bill, Integer> {
+import java.util.Optional;
+
+public interface BillRepository extends SoftDeleteRepository<Bill, Integer> {
+
+    @EntityGraph("Bill.detail")
+    Optional<Bill> findDetailById(int id);
 }
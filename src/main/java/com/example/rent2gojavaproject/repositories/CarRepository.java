@@ -1,11 +1,64 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Car;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.rent2gojavaproject.models.ImageStatus;
+import com.example.rent2gojavaproject.repositories.projections.CarDailyPrice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CarRepository extends JpaRepository<Car, Integer> {
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CarRepository extends SoftDeleteRepository<Car, Integer> {
 
 
     boolean existsByPlate(String plate);
 
+    @Query("select c.plate from Car c where c.plate in :plates")
+    List<String> findPlatesIn(Collection<String> plates);
+
+    @Query("select c.id from Car c where c.isActive = true")
+    List<Integer> findAllActiveIds();
+
+    @Query("select c.id as id, c.dailyPrice as dailyPrice from Car c where c.isActive = true and c.id in :ids")
+    List<CarDailyPrice> findDailyPrices(Collection<Integer> ids);
+
+    @EntityGraph("Car.detail")
+    Optional<Car> findDetailById(int id);
+
+    @Transactional
+    @Modifying
+    @Query("update Car c set c.imageUrl = :imageUrl, c.thumbnailUrl = :thumbnailUrl, c.imageStatus = :imageStatus "
+            + "where c.id = :id")
+    int updateImage(int id, String imageUrl, String thumbnailUrl, ImageStatus imageStatus);
+
+    @Query("select c.id from Car c where c.model.id = :modelId and c.isActive = :isActive")
+    List<Integer> findIdsByModelId(int modelId, boolean isActive);
+
+    @Query("select c.id from Car c where c.model.brand.id = :brandId and c.isActive = :isActive")
+    List<Integer> findIdsByBrandId(int brandId, boolean isActive);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Car c set c.isActive = :isActive, c.updatedAt = :date "
+            + "where c.model.id = :modelId and c.isActive <> :isActive")
+    int updateActiveByModelId(int modelId, boolean isActive, LocalDate date);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Car c set c.isActive = :isActive, c.updatedAt = :date "
+            + "where c.model.id in (select m.id from Model m where m.brand.id = :brandId) and c.isActive <> :isActive")
+    int updateActiveByBrandId(int brandId, boolean isActive, LocalDate date);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Car c set c.isActive = false, c.deletedAt = :date "
+            + "where c.model.id = :modelId and c.deletedAt is null")
+    int markDeletedByModelId(int modelId, LocalDate date);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Car c set c.isActive = false, c.deletedAt = :date "
+            + "where c.model.id in (select m.id from Model m where m.brand.id = :brandId) and c.deletedAt is null")
+    int markDeletedByBrandId(int brandId, LocalDate date);
 }
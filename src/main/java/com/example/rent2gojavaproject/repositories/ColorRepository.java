@@ -1,10 +1,16 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Color;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface ColorRepository extends JpaRepository<Color, Integer> {
+import java.util.Collection;
+import java.util.List;
+
+public interface ColorRepository extends SoftDeleteRepository<Color, Integer> {
 
     boolean existsByName(String name);
 
+    @Query("select c.id from Color c where c.id in :ids")
+    List<Integer> findIdsIn(Collection<Integer> ids);
+
 }
@@ -1,8 +1,12 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Customer;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 
-public interface CustomerRepository extends JpaRepository<Customer, Integer> {
+import java.util.Optional;
 
+public interface CustomerRepository extends SoftDeleteRepository<Customer, Integer> {
+
+    @EntityGraph("Customer.detail")
+    Optional<Customer> findDetailById(int id);
 }
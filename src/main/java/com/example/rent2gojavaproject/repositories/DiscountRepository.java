@@ -1,9 +1,15 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Discount;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.rent2gojavaproject.repositories.projections.DiscountRate;
+import org.springframework.data.jpa.repository.Query;
 
-public interface DiscountRepository extends JpaRepository<Discount, Integer> {
+import java.util.List;
+
+public interface DiscountRepository extends SoftDeleteRepository<Discount, Integer> {
     Discount findByDiscountCode(String discountCode);
 
+    @Query("select d.id as id, d.discountCode as discountCode, d.percentage as percentage " +
+            "from Discount d where d.isActive = true")
+    List<DiscountRate> findAllActiveRates();
 }
@@ -1,8 +1,12 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Employee;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+import java.util.Optional;
 
+public interface EmployeeRepository extends SoftDeleteRepository<Employee, Integer> {
+
+    @EntityGraph("Employee.detail")
+    Optional<Employee> findDetailById(int id);
 }
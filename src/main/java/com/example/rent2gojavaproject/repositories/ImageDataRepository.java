@@ -1,11 +1,35 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.ImageData;
+import com.example.rent2gojavaproject.repositories.projections.ImageRef;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ImageDataRepository extends JpaRepository<ImageData, Integer> {
 
     Optional<ImageData> findByName(String fileName);
+
+    @Query("select i.id as id, i.type as type, i.contentHash as contentHash, i.thumbHash as thumbHash, "
+            + "i.mediumHash as mediumHash from ImageData i where i.name = :name")
+    Optional<ImageRef> findRefByName(String name);
+
+    @Query("select i.type from ImageData i where i.contentHash = :contentHash "
+            + "or i.thumbHash = :contentHash or i.mediumHash = :contentHash")
+    List<String> findTypesByContentHash(String contentHash, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageData i set i.contentHash = :contentHash, i.size = :size, i.imageData = null where i.id = :id")
+    int moveToStore(int id, String contentHash, long size);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageData i set i.thumbHash = :thumbHash, i.mediumHash = :mediumHash where i.id = :id")
+    int updateDerivatives(int id, String thumbHash, String mediumHash);
 }
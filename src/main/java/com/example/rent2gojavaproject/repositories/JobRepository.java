@@ -0,0 +1,57 @@
+package com.example.rent2gojavaproject.repositories;
+
+import com.example.rent2gojavaproject.models.Job;
+import com.example.rent2gojavaproject.models.JobStatus;
+import com.example.rent2gojavaproject.repositories.projections.JobStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    /**
+     * Locks up to {@code limit} due jobs. Rows another worker already holds are skipped rather than
+     * waited on, so concurrent workers on any node each get a disjoint batch.
+     */
+    @Query(value = "select * from jobs where status = 'PENDING' and run_at <= :now "
+            + "order by run_at limit :limit for update skip locked", nativeQuery = true)
+    List<Job> lockDue(LocalDateTime now, int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Job j set j.status = com.example.rent2gojavaproject.models.JobStatus.RUNNING, "
+            + "j.lockedBy = :worker, j.lockedAt = :now, j.attempts = j.attempts + 1 where j.id in :ids")
+    int markRunning(Collection<Long> ids, String worker, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update Job j set j.status = com.example.rent2gojavaproject.models.JobStatus.SUCCEEDED, "
+            + "j.lockedBy = null, j.finishedAt = :now, j.lastError = null where j.id = :id and j.lockedBy = :worker")
+    int markSucceeded(long id, String worker, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update Job j set j.status = :status, j.runAt = :runAt, j.lockedBy = null, j.lastError = :error, "
+            + "j.finishedAt = :finishedAt where j.id = :id and j.lockedBy = :worker")
+    int markFailed(long id, String worker, JobStatus status, LocalDateTime runAt, LocalDateTime finishedAt, String error);
+
+    @Transactional
+    @Modifying
+    @Query("update Job j set j.status = com.example.rent2gojavaproject.models.JobStatus.PENDING, j.lockedBy = null "
+            + "where j.status = com.example.rent2gojavaproject.models.JobStatus.RUNNING and j.lockedAt < :cutoff")
+    int releaseExpired(LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("update Job j set j.status = com.example.rent2gojavaproject.models.JobStatus.PENDING, j.attempts = 0, "
+            + "j.runAt = :now, j.finishedAt = null where j.id = :id "
+            + "and j.status = com.example.rent2gojavaproject.models.JobStatus.DEAD")
+    int requeueDead(long id, LocalDateTime now);
+
+    @Query("select j.status as status, count(j) as count from Job j group by j.status")
+    List<JobStatusCount> countByStatus();
+}
@@ -1,10 +1,28 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Model;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface ModelRepository extends JpaRepository<Model, Integer> {
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface ModelRepository extends SoftDeleteRepository<Model, Integer> {
 
     boolean existsByName(String name);
 
+    @Query("select m.id from Model m where m.id in :ids")
+    List<Integer> findIdsIn(Collection<Integer> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Model m set m.isActive = :isActive, m.updatedAt = :date "
+            + "where m.brand.id = :brandId and m.isActive <> :isActive")
+    int updateActiveByBrandId(int brandId, boolean isActive, LocalDate date);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Model m set m.isActive = false, m.deletedAt = :date "
+            + "where m.brand.id = :brandId and m.deletedAt is null")
+    int markDeletedByBrandId(int brandId, LocalDate date);
+
 }
@@ -1,8 +1,43 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.Rental;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import com.example.rent2gojavaproject.repositories.projections.RentalAdmission;
+import com.example.rent2gojavaproject.repositories.projections.RentalPeriod;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
-public interface RentalRepository extends JpaRepository<Rental, Integer> {
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
+public interface RentalRepository extends SoftDeleteRepository<Rental, Integer> {
+
+    @Query("select r.id as id, r.car.id as carId, r.startDate as startDate, r.endDate as endDate, " +
+            "r.returnDate as returnDate from Rental r where r.isActive = true")
+    List<RentalPeriod> findAllActivePeriods();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c as car, " +
+            "(select count(cu.id) from Customer cu where cu.id = :customerId) as customerCount, " +
+            "(select count(e.id) from Employee e where e.id = :employeeId) as employeeCount " +
+            "from Car c where c.id = :carId")
+    Optional<RentalAdmission> findAdmission(int carId, int customerId, int employeeId);
+
+    @Query("select case when count(r.id) > 0 then true else false end from Rental r " +
+            "where r.car.id = :carId and r.isActive = true " +
+            "and r.startDate < :endDate and coalesce(r.returnDate, r.endDate) > :startDate")
+    boolean existsOverlapping(int carId, LocalDate startDate, LocalDate endDate);
+
+    @Query("select case when count(r.id) > 0 then true else false end from Rental r " +
+            "where r.car.id = :carId and r.isActive = true and r.id <> :rentalId " +
+            "and r.startDate < :endDate and coalesce(r.returnDate, r.endDate) > :startDate")
+    boolean existsOverlappingOther(int carId, LocalDate startDate, LocalDate endDate, int rentalId);
+
+    @Query("select r.car.id from Rental r where r.id = :id")
+    Optional<Integer> findCarIdById(int id);
+
+    @EntityGraph("Rental.detail")
+    Optional<Rental> findDetailById(int id);
 }
@@ -0,0 +1,28 @@
+package com.example.rent2gojavaproject.repositories;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Base for repositories of soft-deleted entities. Deleting only flips {@code IS_ACTIVE}, so reads
+ * filter on it in the query itself; each table carries an {@code (IS_ACTIVE, id)} index for the
+ * predicate and the keyset order used by {@code KeysetPaginator}.
+ */
+@NoRepositoryBean
+public interface SoftDeleteRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * Entity attribute mapped to the {@code IS_ACTIVE} column.
+     */
+    default String activeAttribute() {
+        return "isActive";
+    }
+
+    default Specification<T> whereActive(boolean isActive) {
+
+        String attribute = activeAttribute();
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get(attribute), isActive);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.rent2gojavaproject.repositories;
+
+import com.example.rent2gojavaproject.models.TableVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+
+public interface TableVersionRepository extends JpaRepository<TableVersion, String> {
+
+    @Modifying
+    @Query("update TableVersion t set t.version = t.version + 1 where t.name in :names")
+    int increment(Collection<String> names);
+}
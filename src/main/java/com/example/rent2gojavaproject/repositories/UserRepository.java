@@ -1,11 +1,18 @@
 package com.example.rent2gojavaproject.repositories;
 
 import com.example.rent2gojavaproject.models.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Integer> {
+public interface UserRepository extends SoftDeleteRepository<User, Integer> {
+
+    @Override
+    default String activeAttribute() {
+        return "isEnabled";
+    }
 
     Optional<User> findByEmail(String email);
 
@@ -13,4 +20,12 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     boolean existsByPhoneNumber(String phoneNumber);
 
+    @Query("select u.tokenVersion from User u where u.id = :id and u.isEnabled = true")
+    Optional<Integer> findActiveTokenVersionById(int id);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.id = :id")
+    int incrementTokenVersion(int id);
+
 }
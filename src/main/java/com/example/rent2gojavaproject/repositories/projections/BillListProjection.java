@@ -0,0 +1,33 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetProjection;
+import com.example.rent2gojavaproject.models.Bill;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.services.dtos.responses.billResponse.GetBillListResponse;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class BillListProjection implements KeysetProjection<Bill, GetBillListResponse> {
+
+    @Override
+    public List<Selection<?>> select(Root<Bill> root, CriteriaBuilder criteriaBuilder) {
+
+        Join<Bill, User> user = root.join("user");
+        return List.of(root.get("id"), user.get("name"), root.get("rentalStartDate"), root.get("rentalPrice"),
+                user.get("id"));
+    }
+
+    @Override
+    public GetBillListResponse map(Tuple tuple) {
+
+        TupleReader reader = new TupleReader(tuple);
+        return new GetBillListResponse(reader.nextInt(), reader.next(String.class), reader.next(LocalDate.class),
+                reader.nextDouble(), reader.nextInt());
+    }
+}
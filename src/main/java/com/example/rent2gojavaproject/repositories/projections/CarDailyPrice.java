@@ -0,0 +1,8 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+public interface CarDailyPrice {
+
+    int getId();
+
+    double getDailyPrice();
+}
@@ -0,0 +1,60 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetProjection;
+import com.example.rent2gojavaproject.models.BodyType;
+import com.example.rent2gojavaproject.models.Brand;
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.models.Color;
+import com.example.rent2gojavaproject.models.FuelType;
+import com.example.rent2gojavaproject.models.GearType;
+import com.example.rent2gojavaproject.models.ImageStatus;
+import com.example.rent2gojavaproject.models.Model;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.modelResponse.GetModelResponse;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+
+public class CarListProjection implements KeysetProjection<Car, GetCarListResponse> {
+
+    @Override
+    public List<Selection<?>> select(Root<Car> root, CriteriaBuilder criteriaBuilder) {
+        return columns(root);
+    }
+
+    @Override
+    public GetCarListResponse map(Tuple tuple) {
+
+        GetCarResponse car = read(new TupleReader(tuple));
+        return new GetCarListResponse(car.getId(), car.getKilometer(), car.getYear(), car.getDailyPrice(),
+                car.getPlate(), car.getImageUrl(), car.getThumbnailUrl(), car.getModel(), car.getColorName(),
+                car.getBodyType(), car.getFuelType(), car.getGearType(), car.getCylinderCount(), car.getEnginePower());
+    }
+
+    static List<Selection<?>> columns(From<?, Car> car) {
+
+        Join<Car, Model> model = car.join("model");
+        Join<Model, Brand> brand = model.join("brand");
+        Join<Car, Color> color = car.join("color");
+
+        return List.of(car.get("id"), car.get("kilometer"), car.get("year"), car.get("dailyPrice"),
+                car.get("plate"), car.get("imageUrl"), car.get("thumbnailUrl"), car.get("imageStatus"),
+                model.get("id"), model.get("name"), brand.get("name"), color.get("name"), car.get("bodyType"),
+                car.get("fuelType"), car.get("gearType"), car.get("cylinderCount"), car.get("enginePower"));
+    }
+
+    static GetCarResponse read(TupleReader reader) {
+        return new GetCarResponse(reader.nextInt(), reader.nextInt(), reader.nextInt(), reader.nextDouble(),
+                reader.next(String.class), reader.next(String.class), reader.next(String.class),
+                reader.next(ImageStatus.class),
+                new GetModelResponse(reader.nextInt(), reader.next(String.class), reader.next(String.class)),
+                reader.next(String.class), reader.next(BodyType.class), reader.next(FuelType.class),
+                reader.next(GearType.class), reader.next(String.class), reader.next(String.class));
+    }
+}
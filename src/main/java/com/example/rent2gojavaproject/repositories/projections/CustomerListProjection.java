@@ -0,0 +1,51 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetProjection;
+import com.example.rent2gojavaproject.models.City;
+import com.example.rent2gojavaproject.models.Customer;
+import com.example.rent2gojavaproject.models.District;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.services.dtos.responses.customerResponse.GetCustomerListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.customerResponse.GetCustomerResponse;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+
+public class CustomerListProjection implements KeysetProjection<Customer, GetCustomerListResponse> {
+
+    @Override
+    public List<Selection<?>> select(Root<Customer> root, CriteriaBuilder criteriaBuilder) {
+        return columns(root);
+    }
+
+    @Override
+    public GetCustomerListResponse map(Tuple tuple) {
+
+        GetCustomerResponse customer = read(new TupleReader(tuple));
+        return new GetCustomerListResponse(customer.getId(), customer.getName(), customer.getSurname(),
+                customer.getPhoneNumber(), customer.getEmail(), customer.getNationalityId(), customer.getCity(),
+                customer.getDistrict(), customer.getAddress());
+    }
+
+    static List<Selection<?>> columns(From<?, Customer> customer) {
+
+        Join<Customer, User> user = customer.join("user");
+        Join<Customer, City> city = customer.join("city");
+        Join<Customer, District> district = customer.join("district");
+
+        return List.of(customer.get("id"), user.get("name"), user.get("surname"), user.get("phoneNumber"),
+                user.get("email"), customer.get("nationalityId"), city.get("cityName"),
+                district.get("districtName"), customer.get("address"));
+    }
+
+    static GetCustomerResponse read(TupleReader reader) {
+        return new GetCustomerResponse(reader.nextInt(), reader.next(String.class), reader.next(String.class),
+                reader.next(String.class), reader.next(String.class), reader.next(String.class),
+                reader.next(String.class), reader.next(String.class), reader.next(String.class));
+    }
+}
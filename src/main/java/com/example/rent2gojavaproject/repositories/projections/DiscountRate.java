@@ -0,0 +1,10 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+public interface DiscountRate {
+
+    int getId();
+
+    String getDiscountCode();
+
+    double getPercentage();
+}
@@ -0,0 +1,51 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetProjection;
+import com.example.rent2gojavaproject.models.City;
+import com.example.rent2gojavaproject.models.District;
+import com.example.rent2gojavaproject.models.Employee;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.services.dtos.responses.employeeResponse.GetEmployeeListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.employeeResponse.GetEmployeeResponse;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+
+public class EmployeeListProjection implements KeysetProjection<Employee, GetEmployeeListResponse> {
+
+    @Override
+    public List<Selection<?>> select(Root<Employee> root, CriteriaBuilder criteriaBuilder) {
+        return columns(root);
+    }
+
+    @Override
+    public GetEmployeeListResponse map(Tuple tuple) {
+
+        GetEmployeeResponse employee = read(new TupleReader(tuple));
+        return new GetEmployeeListResponse(employee.getId(), employee.getName(), employee.getSurname(),
+                employee.getPhoneNumber(), employee.getEmail(), employee.getCity(), employee.getDistrict(),
+                employee.getAddress(), employee.getSalary());
+    }
+
+    static List<Selection<?>> columns(From<?, Employee> employee) {
+
+        Join<Employee, User> user = employee.join("user");
+        Join<Employee, City> city = employee.join("city");
+        Join<Employee, District> district = employee.join("district");
+
+        return List.of(employee.get("id"), user.get("name"), user.get("surname"), user.get("phoneNumber"),
+                user.get("email"), city.get("cityName"), district.get("districtName"), employee.get("address"),
+                employee.get("salary"));
+    }
+
+    static GetEmployeeResponse read(TupleReader reader) {
+        return new GetEmployeeResponse(reader.nextInt(), reader.next(String.class), reader.next(String.class),
+                reader.next(String.class), reader.next(String.class), reader.next(String.class),
+                reader.next(String.class), reader.next(String.class), reader.nextDouble());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+public interface ImageRef {
+
+    int getId();
+
+    String getType();
+
+    String getContentHash();
+
+    String getThumbHash();
+
+    String getMediumHash();
+}
@@ -0,0 +1,10 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import com.example.rent2gojavaproject.models.JobStatus;
+
+public interface JobStatusCount {
+
+    JobStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,12 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import com.example.rent2gojavaproject.models.Car;
+
+public interface RentalAdmission {
+
+    Car getCar();
+
+    long getCustomerCount();
+
+    long getEmployeeCount();
+}
@@ -0,0 +1,57 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetProjection;
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.models.Customer;
+import com.example.rent2gojavaproject.models.Discount;
+import com.example.rent2gojavaproject.models.Employee;
+import com.example.rent2gojavaproject.models.Rental;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalListResponse;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RentalListProjection implements KeysetProjection<Rental, GetRentalListResponse> {
+
+    @Override
+    public List<Selection<?>> select(Root<Rental> root, CriteriaBuilder criteriaBuilder) {
+
+        Join<Rental, Car> car = root.join("car");
+        Join<Rental, Customer> customer = root.join("customer");
+        Join<Rental, Employee> employee = root.join("employee");
+        Join<Rental, Discount> discount = root.join("discount");
+
+        List<Selection<?>> columns = new ArrayList<>(List.of(root.get("id"), root.get("startDate"),
+                root.get("endDate"), root.get("returnDate"), root.get("startKilometer"), root.get("endKilometer"),
+                root.get("totalPrice"), discount.get("percentage")));
+        columns.addAll(CarListProjection.columns(car));
+        columns.addAll(CustomerListProjection.columns(customer));
+        columns.addAll(EmployeeListProjection.columns(employee));
+        return columns;
+    }
+
+    @Override
+    public GetRentalListResponse map(Tuple tuple) {
+
+        TupleReader reader = new TupleReader(tuple);
+        GetRentalListResponse response = new GetRentalListResponse();
+        response.setId(reader.nextInt());
+        response.setStartDate(reader.next(LocalDate.class));
+        response.setEndDate(reader.next(LocalDate.class));
+        response.setReturnDate(reader.next(LocalDate.class));
+        response.setStartKilometer(reader.nextInt());
+        response.setEndKilometer(reader.next(Integer.class));
+        response.setTotalPrice(reader.nextDouble());
+        response.setDiscountPercentage(reader.nextDouble());
+        response.setCar(CarListProjection.read(reader));
+        response.setCustomer(CustomerListProjection.read(reader));
+        response.setEmployee(EmployeeListProjection.read(reader));
+        return response;
+    }
+}
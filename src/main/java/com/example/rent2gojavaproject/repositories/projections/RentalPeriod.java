@@ -0,0 +1,16 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import java.time.LocalDate;
+
+public interface RentalPeriod {
+
+    int getId();
+
+    int getCarId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    LocalDate getReturnDate();
+}
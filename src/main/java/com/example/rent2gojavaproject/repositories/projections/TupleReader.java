@@ -0,0 +1,30 @@
+package com.example.rent2gojavaproject.repositories.projections;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Reads tuple columns in selection order so projections can be composed block by block.
+ */
+final class TupleReader {
+
+    private final Tuple tuple;
+    private int index;
+
+    TupleReader(Tuple tuple) {
+        this.tuple = tuple;
+    }
+
+    <T> T next(Class<T> type) {
+        return this.tuple.get(this.index++, type);
+    }
+
+    int nextInt() {
+        Integer value = next(Integer.class);
+        return value == null ? 0 : value;
+    }
+
+    double nextDouble() {
+        Double value = next(Double.class);
+        return value == null ? 0 : value;
+    }
+}
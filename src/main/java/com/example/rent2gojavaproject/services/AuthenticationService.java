@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services;
 
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.models.Role;
 import com.example.rent2gojavaproject.models.User;
@@ -9,9 +10,6 @@ import com.example.rent2gojavaproject.services.dtos.requests.userRequest.SignInR
 import com.example.rent2gojavaproject.services.dtos.requests.userRequest.SignUpRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.userResponse.JwtAuthenticationResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -23,9 +21,8 @@ public class AuthenticationService {
 
     private final UserRepository userRepository;
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
 
     public User signup(SignUpRequest request) {
         Optional<User> user = userRepository.findByEmail(request.getEmail());
@@ -35,7 +32,7 @@ public class AuthenticationService {
                 .surname(request.getLastName())
                 .phoneNumber(request.getPhoneNumber())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .role(Role.USER)
                 .createdAt(LocalDate.now())
                 .build();
@@ -50,10 +47,10 @@ public class AuthenticationService {
     public JwtAuthenticationResponse signin(SignInRequest request) {
         var user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new NotFoundException("Invalid email name"));
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword()))
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword()))
             throw new NotFoundException("Invalid password ");
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
+        if (!user.isEnabled())
+            throw new BusinessRuleException("Please verify your email address before signing in.");
 
         var jwt = jwtService.generateToken(user);
         return JwtAuthenticationResponse.builder().token(jwt).build();
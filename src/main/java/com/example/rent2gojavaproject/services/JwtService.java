@@ -1,31 +1,63 @@
 package com.example.rent2gojavaproject.services;
 
+import com.example.rent2gojavaproject.core.token.JwtPrincipal;
+import com.example.rent2gojavaproject.models.Role;
 import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.services.abstracts.TokenVersionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "tv";
+    private static final String ROLE_CLAIM = "role";
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 100_000;
+
+    private final TokenVersionService tokenVersionService;
+
     @Value("${token.secret.key}")
     String jwtSecretKey;
 
-
-    public String extractUserName(String token) {
-        return extractClaim(token, Claims::getSubject);
+    private Key signingKey;
+    private JwtParser parser;
+    private Cache<ByteBuffer, JwtPrincipal> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretKey));
+        this.parser = Jwts.parserBuilder().setSigningKey(this.signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     public String generateToken(User userDetails) {
@@ -34,20 +66,55 @@ public class JwtService {
                 "firstname", userDetails.getName(),
                 "lastname", userDetails.getSurname(),
                 "phoneNumber", userDetails.getPhoneNumber(),
-                "role",userDetails.getRole()
+                ROLE_CLAIM, userDetails.getRole(),
+                USER_ID_CLAIM, userDetails.getId(),
+                TOKEN_VERSION_CLAIM, userDetails.getTokenVersion()
 
         ));
         return generateToken(claims, userDetails);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    /**
+     * Resolves a bearer token to its principal. The signature is verified once per token; later
+     * requests with the same token are answered from a cache keyed by its SHA-256 and evicted
+     * when the token expires. Only the user's token version is checked each time, and that is
+     * cached as well.
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
+
+        ByteBuffer key = ByteBuffer.wrap(sha256(token));
+        JwtPrincipal principal = this.verifiedTokens.getIfPresent(key);
+        if (principal == null) {
+            principal = verify(token);
+            if (principal == null) {
+                return Optional.empty();
+            }
+            this.verifiedTokens.put(key, principal);
+        }
+
+        if (principal.getExpiresAtMillis() <= System.currentTimeMillis()
+                || this.tokenVersionService.getCurrentVersion(principal.getUserId()) != principal.getTokenVersion()) {
+            return Optional.empty();
+        }
+        return Optional.of(principal);
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
+    private JwtPrincipal verify(String token) {
+
+        try {
+            Claims claims = this.parser.parseClaimsJws(token).getBody();
+            Integer userId = claims.get(USER_ID_CLAIM, Integer.class);
+            Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+            String role = claims.get(ROLE_CLAIM, String.class);
+            if (userId == null || tokenVersion == null || role == null
+                    || claims.getSubject() == null || claims.getExpiration() == null) {
+                return null;
+            }
+            return new JwtPrincipal(userId, claims.getSubject(), Role.valueOf(role), tokenVersion,
+                    claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException exception) {
+            return null;
+        }
     }
 
     private String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -57,7 +124,7 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -66,30 +133,33 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, JwtPrincipal> {
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JwtPrincipal principal, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, principal.getExpiresAtMillis() - System.currentTimeMillis()));
+        }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
 
+        @Override
+        public long expireAfterRead(ByteBuffer key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
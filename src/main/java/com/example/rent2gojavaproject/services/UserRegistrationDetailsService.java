@@ -1,8 +1,10 @@
 package com.example.rent2gojavaproject.services;
 
+import com.example.rent2gojavaproject.config.CacheConfig;
 import com.example.rent2gojavaproject.models.UserRegistrationDetails;
 import com.example.rent2gojavaproject.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -15,6 +17,7 @@ public class UserRegistrationDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.USER_DETAILS, key = "#email")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return userRepository.findByEmail(email)
                 .map(UserRegistrationDetails::new)
@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.dtos.requests.billRequest.AddBillRequest;
@@ -10,17 +11,17 @@ import com.example.rent2gojavaproject.services.dtos.responses.billResponse.GetBi
 import java.util.List;
 
 public interface BillService {
-    DataResult<List<GetBillListResponse>> getAllBills();
+    DataResult<List<GetBillListResponse>> getAllBills(CursorPageRequest pageRequest);
 
     DataResult<GetBillResponse> getById(int id);
 
-    Result addBill(AddBillRequest addBillRequest);
+    DataResult<Long> addBill(AddBillRequest addBillRequest);
 
     Result updateBill(UpdateBillRequest updateBillRequest);
 
     Result deleteBill(int id);
 
-    DataResult<Iterable<GetBillListResponse>> findAll(boolean isActive);
+    DataResult<List<GetBillListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 
     boolean existsById(int id);
 }
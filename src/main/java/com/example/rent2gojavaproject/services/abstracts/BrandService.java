@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.dtos.requests.brandRequest.AddBrandRequest;
@@ -20,7 +21,7 @@ public interface BrandService {
 
     Result deleteBrand(int id);
 
-    DataResult<Iterable<GetBrandListResponse>> findAll(boolean isActive);
+    DataResult<List<GetBrandListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 
     boolean existsById(int id);
 }
@@ -0,0 +1,10 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.services.dtos.responses.cacheResponse.GetCacheStatsResponse;
+
+import java.util.List;
+
+public interface CacheStatsService {
+    DataResult<List<GetCacheStatsResponse>> getStats();
+}
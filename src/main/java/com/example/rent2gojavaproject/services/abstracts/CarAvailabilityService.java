@@ -0,0 +1,21 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+import com.example.rent2gojavaproject.models.Rental;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CarAvailabilityService {
+
+    List<Integer> getAvailableCarIds(LocalDate startDate, LocalDate endDate, Integer afterId, int limit);
+
+    boolean isAvailable(int carId, LocalDate startDate, LocalDate endDate);
+
+    void addCar(int carId);
+
+    void removeCar(int carId);
+
+    void addRental(Rental rental);
+
+    void removeRental(int rentalId);
+}
@@ -0,0 +1,15 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+import com.example.rent2gojavaproject.core.utilities.storage.SpooledImage;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+public interface CarImageService {
+
+    SpooledImage spool(MultipartFile file) throws IOException;
+
+    void upload(int carId, String key, SpooledImage image);
+
+    void discard(SpooledImage image);
+}
@@ -0,0 +1,13 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarImportResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface CarImportService {
+
+    DataResult<GetCarImportResponse> importCars(InputStream body, MediaType contentType) throws IOException;
+}
@@ -1,6 +1,7 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.dtos.requests.carRequest.AddCarRequest;
@@ -10,14 +11,17 @@ import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCar
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface CarService {
 
-    DataResult<List<GetCarListResponse>> getAllCars();
+    DataResult<List<GetCarListResponse>> getAllCars(CursorPageRequest pageRequest);
 
     DataResult<GetCarResponse> getById(int id);
 
+    DataResult<List<GetCarListResponse>> getAvailableCars(LocalDate startDate, LocalDate endDate, CursorPageRequest pageRequest);
+
     Result addCar(AddCarRequest addCarRequest, MultipartFile file) throws IOException;
 
 
@@ -29,7 +33,7 @@ public interface CarService {
 
     boolean existsById(int id);
 
-    DataResult<Iterable<GetCarListResponse>> findAll(boolean isActive);
+    DataResult<List<GetCarListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 
 
 }
@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.models.Color;
@@ -24,6 +25,6 @@ public interface ColorService {
 
     boolean existsById(int id);
 
-    DataResult<Iterable<GetColorListResponse>> findAll(boolean isActive);
+    DataResult<List<GetColorListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 
 }
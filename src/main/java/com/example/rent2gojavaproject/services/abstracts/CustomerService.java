@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.dtos.requests.customerRequest.AddCustomerRequest;
@@ -11,7 +12,7 @@ import java.util.List;
 
 public interface CustomerService {
 
-    DataResult<List<GetCustomerListResponse>> getAllCustomer();
+    DataResult<List<GetCustomerListResponse>> getAllCustomer(CursorPageRequest pageRequest);
 
     DataResult<GetCustomerResponse> getById(int customerId);
 
@@ -21,7 +22,7 @@ public interface CustomerService {
 
     Result DeleteCustomer(int customerId);
 
-    DataResult<Iterable<GetCustomerListResponse>> findAll(boolean isActive);
+    DataResult<List<GetCustomerListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 
     boolean existsById(int id);
 }
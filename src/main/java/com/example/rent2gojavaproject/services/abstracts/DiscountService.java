@@ -1,8 +1,9 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
-import com.example.rent2gojavaproject.models.Discount;
+import com.example.rent2gojavaproject.repositories.projections.DiscountRate;
 import com.example.rent2gojavaproject.services.dtos.requests.discountRequest.AddDiscountRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.discountRequest.UpdateDiscountRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.discountResponse.GetDiscountListResponse;
@@ -13,7 +14,7 @@ import java.util.List;
 public interface DiscountService {
 
 
-    DataResult<List<GetDiscountListResponse>> getAllDiscounts();
+    DataResult<List<GetDiscountListResponse>> getAllDiscounts(CursorPageRequest pageRequest);
 
     DataResult<GetDiscountResponse> getById(int id);
 
@@ -23,7 +24,7 @@ public interface DiscountService {
 
     Result deleteDiscount(int id);
 
-    Discount findByDiscountCode(String discountCode);
+    DiscountRate findRateByCode(String discountCode);
 
-    DataResult<Iterable<GetDiscountListResponse>> findAll(boolean isActive);
+    DataResult<List<GetDiscountListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 }
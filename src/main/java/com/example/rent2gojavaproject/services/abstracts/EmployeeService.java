@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.dtos.requests.employeeRequest.AddEmployeeRequest;
@@ -11,7 +12,7 @@ import java.util.List;
 
 public interface EmployeeService {
 
-    DataResult<List<GetEmployeeListResponse>> getAllEmployees();
+    DataResult<List<GetEmployeeListResponse>> getAllEmployees(CursorPageRequest pageRequest);
 
     DataResult<GetEmployeeResponse> getById(int id);
 
@@ -21,7 +22,7 @@ public interface EmployeeService {
 
     Result deleteEmployee(int id);
 
-    DataResult<Iterable<GetEmployeeListResponse>> findAll(boolean isActive);
+    DataResult<List<GetEmployeeListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 
     boolean existsById(int id);
 
@@ -1,5 +1,8 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.storage.StoredImage;
+import com.example.rent2gojavaproject.services.dtos.responses.imageResponse.GetImageCacheStatsResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -8,5 +11,9 @@ public interface ImageDataService {
 
     String uploadImage(MultipartFile file) throws IOException;
 
-    byte[] downloadImage(String fileName);
+    StoredImage findByName(String fileName, String size) throws IOException;
+
+    StoredImage findByHash(String contentHash) throws IOException;
+
+    DataResult<GetImageCacheStatsResponse> getCacheStats();
 }
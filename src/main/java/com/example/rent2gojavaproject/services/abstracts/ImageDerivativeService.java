@@ -0,0 +1,24 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+import com.example.rent2gojavaproject.core.utilities.storage.ImageVariant;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface ImageDerivativeService {
+
+    /**
+     * Renders every {@link ImageVariant} of the image into temporary files. The future completes
+     * with an empty map when the file is not an image that can be decoded.
+     */
+    CompletableFuture<Map<ImageVariant, Path>> render(Path original);
+
+    /**
+     * Renders the variants and stores each in {@code ImageStorage} under {@code key} plus the
+     * variant suffix, returning their URLs.
+     */
+    CompletableFuture<Map<ImageVariant, String>> storeDerivatives(String key, Path original, String contentType);
+
+    void discard(Map<ImageVariant, Path> derivatives);
+}
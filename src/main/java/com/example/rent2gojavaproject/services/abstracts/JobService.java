@@ -0,0 +1,17 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.results.Result;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobStatsResponse;
+
+public interface JobService {
+
+    long enqueue(String type, Object payload);
+
+    DataResult<GetJobResponse> getById(long id);
+
+    Result retry(long id);
+
+    DataResult<GetJobStatsResponse> getStats();
+}
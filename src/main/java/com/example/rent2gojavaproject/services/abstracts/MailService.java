@@ -0,0 +1,10 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+import com.example.rent2gojavaproject.core.utilities.mail.MailMessage;
+
+public interface MailService {
+
+    MailMessage sendVerificationEmail(String to, String name, String surname, String url);
+
+    MailMessage sendResetPasswordEmail(String to, String name, String surname, String url);
+}
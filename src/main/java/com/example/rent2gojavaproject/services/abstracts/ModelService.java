@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.dtos.requests.modelRequest.AddModelRequest;
@@ -22,6 +23,6 @@ public interface ModelService {
 
     boolean existsById(int id);
 
-    DataResult<Iterable<GetModelListResponse>> findAll(boolean isActive);
+    DataResult<List<GetModelListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 }
 
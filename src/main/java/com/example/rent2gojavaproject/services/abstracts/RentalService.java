@@ -1,24 +1,29 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.AddRentalRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.QuoteRentalsRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.UpdateRentalRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalQuoteResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalResponse;
 
 import java.util.List;
 
 public interface RentalService {
-    DataResult<List<GetRentalListResponse>> getAllRentals();
+    DataResult<List<GetRentalListResponse>> getAllRentals(CursorPageRequest pageRequest);
 
     DataResult<GetRentalResponse> getById(int id);
 
     Result addRental(AddRentalRequest addRentalRequest);
 
+    DataResult<List<GetRentalQuoteResponse>> quoteRentals(QuoteRentalsRequest quoteRentalsRequest);
+
     Result updateRental(UpdateRentalRequest updateRentalRequest);
 
     Result deleteRental(int id);
 
-    DataResult<Iterable<GetRentalListResponse>> findAll(boolean isActive);
+    DataResult<List<GetRentalListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 }
@@ -0,0 +1,10 @@
+package com.example.rent2gojavaproject.services.abstracts;
+
+public interface TokenVersionService {
+
+    int NO_VERSION = -1;
+
+    int getCurrentVersion(int userId);
+
+    void revoke(int userId);
+}
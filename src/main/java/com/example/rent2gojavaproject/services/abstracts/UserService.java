@@ -1,6 +1,7 @@
 package com.example.rent2gojavaproject.services.abstracts;
 
 import com.example.rent2gojavaproject.core.token.VerificationToken;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.models.User;
@@ -11,7 +12,7 @@ import com.example.rent2gojavaproject.services.dtos.responses.userResponse.GetUs
 import java.util.List;
 
 public interface UserService {
-    DataResult<List<GetUserListResponse>> getAllUsers();
+    DataResult<List<GetUserListResponse>> getAllUsers(CursorPageRequest pageRequest);
 
     DataResult<GetUserResponse> getById(int id);
 
@@ -21,7 +22,7 @@ public interface UserService {
 
     Result deleteUser(int id);
 
-    DataResult<Iterable<GetUserListResponse>> findAll(boolean isActive);
+    DataResult<List<GetUserListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest);
 
     void saveUserVerificationToken(User theUser, String verificationToken);
 
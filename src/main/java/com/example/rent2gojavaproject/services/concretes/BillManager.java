@@ -3,73 +3,80 @@ package com.example.rent2gojavaproject.services.concretes;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
 import com.example.rent2gojavaproject.models.Bill;
 import com.example.rent2gojavaproject.repositories.BillRepository;
+import com.example.rent2gojavaproject.repositories.projections.BillListProjection;
 import com.example.rent2gojavaproject.services.abstracts.BillService;
+import com.example.rent2gojavaproject.services.abstracts.JobService;
 import com.example.rent2gojavaproject.services.dtos.requests.billRequest.AddBillRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.billRequest.UpdateBillRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.billResponse.GetBillListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.billResponse.GetBillResponse;
-import jakarta.persistence.EntityManager;
+import com.example.rent2gojavaproject.services.jobs.AddBillJobHandler;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
 public class BillManager implements BillService {
+
+    private static final Set<String> SORTABLE = Set.of("id", "no", "rentalPrice");
+    private static final BillListProjection LIST_PROJECTION = new BillListProjection();
+
     private BillRepository billRepository;
     private ModelMapperService mapperService;
-    private EntityManager entityManager;
+    private KeysetPaginator paginator;
+    private JobService jobService;
 
     @Override
-    public DataResult<List<GetBillListResponse>> getAllBills() {
-        List<Bill> bills = this.billRepository.findAll();
-        List<GetBillListResponse> responses = bills.stream()
-                .map(bill -> this.mapperService.forResponse()
-                        .map(bill, GetBillListResponse.class))
-                .collect(Collectors.toList());
-        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+    @Transactional(readOnly = true)
+    public DataResult<List<GetBillListResponse>> getAllBills(CursorPageRequest pageRequest) {
+
+        CursorPage<GetBillListResponse> page = this.paginator.findAll(Bill.class, LIST_PROJECTION, pageRequest, SORTABLE);
+
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
-    public DataResult<Iterable<GetBillListResponse>> findAll(boolean isActive) {
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterBill");
-        filter.setParameter("isActive", isActive);
-        Iterable<GetBillListResponse> bills = this.billRepository.findAll().stream()
-                .map(bill -> this.mapperService.forResponse()
-                        .map(bill, GetBillListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterBill");
-        return new SuccessDataResult<>(bills, Message.GET_ALL.getMessage());
+    @Transactional(readOnly = true)
+    public DataResult<List<GetBillListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
+
+        CursorPage<GetBillListResponse> page = this.paginator.findAll(Bill.class, this.billRepository.whereActive(isActive),
+                LIST_PROJECTION, pageRequest, SORTABLE);
+
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetBillResponse> getById(int id) {
-        Bill bill = this.billRepository.findById(id).orElseThrow(() -> new NotFoundException("Bill not found: " + id));
+        Bill bill = this.billRepository.findDetailById(id).orElseThrow(() -> new NotFoundException("Bill not found: " + id));
         GetBillResponse response = this.mapperService.forResponse().map(bill, GetBillResponse.class);
         return new SuccessDataResult<>(response, Message.GET.getMessage());
     }
 
     @Override
-    public Result addBill(AddBillRequest addBillRequest) {
-        Bill bill = this.mapperService.forRequest().map(addBillRequest, Bill.class);
-        this.billRepository.save(bill);
+    @Transactional
+    public DataResult<Long> addBill(AddBillRequest addBillRequest) {
+        long jobId = this.jobService.enqueue(AddBillJobHandler.TYPE, addBillRequest);
 
-        return new SuccessResult(Message.ADD.getMessage());
+        return new SuccessDataResult<>(jobId, Message.QUEUED.getMessage());
     }
 
     @Override
+    @Transactional
     public Result updateBill(UpdateBillRequest updateBillRequest) {
         this.billRepository.findById(updateBillRequest.getId()).orElseThrow(() -> new NotFoundException("Bill not found "));
         Bill bill = this.mapperService.forRequest().map(updateBillRequest, Bill.class);
@@ -80,16 +87,18 @@ public class BillManager implements BillService {
     }
 
     @Override
+    @Transactional
     public Result deleteBill(int id) {
         Bill bill = this.billRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found : " + id));
         bill.setDeletedAt(LocalDate.now());
-        this.billRepository.save(bill);
+        this.billRepository.saveAndFlush(bill);
         this.billRepository.delete(bill);
 
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(int id) {
         return this.billRepository.existsById(id);
     }
@@ -1,12 +1,17 @@
 package com.example.rent2gojavaproject.services.concretes;
 
+import com.example.rent2gojavaproject.config.CacheConfig;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
 import com.example.rent2gojavaproject.models.Brand;
 import com.example.rent2gojavaproject.repositories.BrandRepository;
 import com.example.rent2gojavaproject.services.abstracts.BrandService;
@@ -15,25 +20,30 @@ import com.example.rent2gojavaproject.services.dtos.requests.brandRequest.Update
 import com.example.rent2gojavaproject.services.dtos.responses.brandResponse.GetBrandListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.brandResponse.GetBrandResponse;
 import com.example.rent2gojavaproject.services.rules.BrandBusinessRules;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class BrandManager implements BrandService {
+
+    private static final Set<String> SORTABLE = Set.of("id", "name");
     private final BrandRepository brandRepository;
     private ModelMapperService mapperService;
     private BrandBusinessRules businessRules;
-    private EntityManager entityManager;
+    private KeysetPaginator paginator;
+    private TableVersions tableVersions;
 
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.BRANDS, key = "'all'")
     public DataResult<List<GetBrandListResponse>> getAllBrands() {
 
         List<Brand> brands = this.brandRepository.findAll();
@@ -46,23 +56,21 @@ public class BrandManager implements BrandService {
     }
 
     @Override
-    public DataResult<Iterable<GetBrandListResponse>> findAll(boolean isActive) {
-
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterBrand");
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.BRANDS, key = "'active:' + #isActive + ':' + #pageRequest")
+    public DataResult<List<GetBrandListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        filter.setParameter("isActive", isActive);
+        CursorPage<GetBrandListResponse> page = this.paginator.findAll(this.brandRepository, Brand.class,
+                this.brandRepository.whereActive(isActive), pageRequest, SORTABLE,
+                brand -> this.mapperService.forResponse().map(brand, GetBrandListResponse.class));
 
-        Iterable<GetBrandListResponse> brands = this.brandRepository.findAll()
-                .stream().map(brand -> this.mapperService.forResponse()
-                        .map(brand, GetBrandListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterBrand");
-        return new SuccessDataResult<>(brands, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.BRANDS, key = "#id")
     public DataResult<GetBrandResponse> getById(int id) {
 
         Brand brand = this.brandRepository.findById(id).orElseThrow(() -> new NotFoundException("Couldn't find brand id : " + id));
@@ -72,6 +80,7 @@ public class BrandManager implements BrandService {
     }
 
     @Override
+    @Transactional
     public Result addBrand(AddBrandRequest addBrandRequest) {
 
         String editName = businessRules.checkIfExistsByName(addBrandRequest.getName());
@@ -80,10 +89,13 @@ public class BrandManager implements BrandService {
         brand.setName(editName);
         this.brandRepository.save(brand);
 
+        this.tableVersions.changed(TableVersions.BRANDS, TableVersions.MODELS, TableVersions.CARS);
+
         return new SuccessResult(Message.ADD.getMessage());
     }
 
     @Override
+    @Transactional
     public Result updateBrand(UpdateBrandRequest updateBrandRequest) {
 
         String editName = businessRules.checkIfExistsByName(updateBrandRequest.getName());
@@ -95,22 +107,28 @@ public class BrandManager implements BrandService {
 
         this.brandRepository.save(existingBrand);
 
+        this.tableVersions.changed(TableVersions.BRANDS, TableVersions.MODELS, TableVersions.CARS);
+
         return new SuccessResult(Message.UPDATE.getMessage());
     }
 
     @Override
+    @Transactional
     public Result deleteBrand(int id) {
 
         Brand brand = this.brandRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found"));
         businessRules.changeDeleteDate(brand);
 
-        this.brandRepository.save(brand);
+        this.brandRepository.saveAndFlush(brand);
         this.brandRepository.delete(brand);
 
+        this.tableVersions.changed(TableVersions.BRANDS, TableVersions.MODELS, TableVersions.CARS);
+
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(int id) {
         return this.brandRepository.existsById(id);
     }
@@ -0,0 +1,44 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.utilities.alerts.Message;
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
+import com.example.rent2gojavaproject.services.abstracts.CacheStatsService;
+import com.example.rent2gojavaproject.services.dtos.responses.cacheResponse.GetCacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@AllArgsConstructor
+public class CacheStatsManager implements CacheStatsService {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public DataResult<List<GetCacheStatsResponse>> getStats() {
+
+        List<GetCacheStatsResponse> responses = this.cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this.cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .filter(CaffeineCache.class::isInstance)
+                .map(cache -> toResponse(cache.getName(), ((CaffeineCache) cache).getNativeCache()))
+                .toList();
+
+        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+    }
+
+    private static GetCacheStatsResponse toResponse(String name, Cache<Object, Object> cache) {
+
+        CacheStats stats = cache.stats();
+        return new GetCacheStatsResponse(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.models.Rental;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.repositories.RentalRepository;
+import com.example.rent2gojavaproject.repositories.projections.RentalPeriod;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps the booked periods of every active car in memory so availability searches
+ * never touch the rentals table. Periods are half-open day ranges [start, end), where
+ * end is the return date once the car has been brought back. Cars are kept in id order so
+ * a search can resume after the last id of the previous page.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CarAvailabilityManager implements CarAvailabilityService {
+
+    private final CarRepository carRepository;
+    private final RentalRepository rentalRepository;
+
+    private volatile ConcurrentSkipListMap<Integer, CarBookings> bookingsByCar = new ConcurrentSkipListMap<>();
+    private volatile ConcurrentHashMap<Integer, Integer> carByRental = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        Map<Integer, List<RentalPeriod>> periodsByCar = new HashMap<>();
+        for (RentalPeriod period : this.rentalRepository.findAllActivePeriods()) {
+            periodsByCar.computeIfAbsent(period.getCarId(), carId -> new ArrayList<>()).add(period);
+        }
+
+        ConcurrentSkipListMap<Integer, CarBookings> bookings = new ConcurrentSkipListMap<>();
+        ConcurrentHashMap<Integer, Integer> rentals = new ConcurrentHashMap<>();
+        for (Integer carId : this.carRepository.findAllActiveIds()) {
+            CarBookings carBookings = CarBookings.EMPTY;
+            for (RentalPeriod period : periodsByCar.getOrDefault(carId, List.of())) {
+                carBookings = carBookings.with(period.getId(), bookedFrom(period.getStartDate()),
+                        bookedUntil(period.getEndDate(), period.getReturnDate()));
+                rentals.put(period.getId(), carId);
+            }
+            bookings.put(carId, carBookings);
+        }
+
+        this.bookingsByCar = bookings;
+        this.carByRental = rentals;
+        log.info("Car availability index built for {} cars and {} rentals", bookings.size(), rentals.size());
+    }
+
+    @Override
+    public List<Integer> getAvailableCarIds(LocalDate startDate, LocalDate endDate, Integer afterId, int limit) {
+
+        long from = startDate.toEpochDay();
+        long until = endDate.toEpochDay();
+
+        Map<Integer, CarBookings> candidates = afterId == null
+                ? this.bookingsByCar
+                : this.bookingsByCar.tailMap(afterId, false);
+
+        List<Integer> carIds = new ArrayList<>();
+        for (Map.Entry<Integer, CarBookings> entry : candidates.entrySet()) {
+            if (carIds.size() == limit) {
+                break;
+            }
+            if (!entry.getValue().overlaps(from, until)) {
+                carIds.add(entry.getKey());
+            }
+        }
+        return carIds;
+    }
+
+    @Override
+    public boolean isAvailable(int carId, LocalDate startDate, LocalDate endDate) {
+
+        CarBookings bookings = this.bookingsByCar.get(carId);
+        return bookings != null && !bookings.overlaps(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    @Override
+    public void addCar(int carId) {
+        this.bookingsByCar.putIfAbsent(carId, CarBookings.EMPTY);
+    }
+
+    @Override
+    public void removeCar(int carId) {
+        this.bookingsByCar.remove(carId);
+    }
+
+    @Override
+    public void addRental(Rental rental) {
+
+        removeRental(rental.getId());
+        if (!rental.isActive() || rental.getCar() == null) {
+            return;
+        }
+
+        int carId = rental.getCar().getId();
+        long from = bookedFrom(rental.getStartDate());
+        long until = bookedUntil(rental.getEndDate(), rental.getReturnDate());
+        CarBookings updated = this.bookingsByCar.computeIfPresent(carId, (id, bookings) ->
+                bookings.with(rental.getId(), from, until));
+        if (updated != null) {
+            this.carByRental.put(rental.getId(), carId);
+        }
+    }
+
+    @Override
+    public void removeRental(int rentalId) {
+
+        Integer carId = this.carByRental.remove(rentalId);
+        if (carId != null) {
+            this.bookingsByCar.computeIfPresent(carId, (id, bookings) -> bookings.without(rentalId));
+        }
+    }
+
+    private static long bookedFrom(LocalDate startDate) {
+        return startDate.toEpochDay();
+    }
+
+    private static long bookedUntil(LocalDate endDate, LocalDate returnDate) {
+        return (returnDate != null ? returnDate : endDate).toEpochDay();
+    }
+
+    /**
+     * Immutable, start-sorted booking list of a single car. {@code maxEnds[i]} holds the
+     * latest end among the first {@code i + 1} bookings, so an overlap test is one binary search.
+     */
+    static final class CarBookings {
+
+        static final CarBookings EMPTY = new CarBookings(new int[0], new long[0], new long[0]);
+
+        private final int[] rentalIds;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        private CarBookings(int[] rentalIds, long[] starts, long[] ends) {
+            this.rentalIds = rentalIds;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnds = new long[ends.length];
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                this.maxEnds[i] = max;
+            }
+        }
+
+        boolean overlaps(long from, long until) {
+
+            int low = 0;
+            int high = this.starts.length - 1;
+            int last = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (this.starts[mid] < until) {
+                    last = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return last >= 0 && this.maxEnds[last] > from;
+        }
+
+        CarBookings with(int rentalId, long start, long end) {
+
+            if (end <= start) {
+                return this;
+            }
+
+            int size = this.starts.length;
+            int position = 0;
+            while (position < size && this.starts[position] <= start) {
+                position++;
+            }
+
+            int[] newRentalIds = new int[size + 1];
+            long[] newStarts = new long[size + 1];
+            long[] newEnds = new long[size + 1];
+            System.arraycopy(this.rentalIds, 0, newRentalIds, 0, position);
+            System.arraycopy(this.starts, 0, newStarts, 0, position);
+            System.arraycopy(this.ends, 0, newEnds, 0, position);
+            newRentalIds[position] = rentalId;
+            newStarts[position] = start;
+            newEnds[position] = end;
+            System.arraycopy(this.rentalIds, position, newRentalIds, position + 1, size - position);
+            System.arraycopy(this.starts, position, newStarts, position + 1, size - position);
+            System.arraycopy(this.ends, position, newEnds, position + 1, size - position);
+
+            return new CarBookings(newRentalIds, newStarts, newEnds);
+        }
+
+        CarBookings without(int rentalId) {
+
+            int position = -1;
+            for (int i = 0; i < this.rentalIds.length; i++) {
+                if (this.rentalIds[i] == rentalId) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                return this;
+            }
+
+            int size = this.rentalIds.length;
+            int[] newRentalIds = Arrays.copyOf(this.rentalIds, size - 1);
+            long[] newStarts = Arrays.copyOf(this.starts, size - 1);
+            long[] newEnds = Arrays.copyOf(this.ends, size - 1);
+            System.arraycopy(this.rentalIds, position + 1, newRentalIds, position, size - position - 1);
+            System.arraycopy(this.starts, position + 1, newStarts, position, size - position - 1);
+            System.arraycopy(this.ends, position + 1, newEnds, position, size - position - 1);
+
+            return new CarBookings(newRentalIds, newStarts, newEnds);
+        }
+    }
+}
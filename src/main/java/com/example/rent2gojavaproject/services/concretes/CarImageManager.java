@@ -0,0 +1,122 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.exceptions.TooManyRequestsException;
+import com.example.rent2gojavaproject.core.utilities.storage.ImageStorage;
+import com.example.rent2gojavaproject.core.utilities.storage.ImageVariant;
+import com.example.rent2gojavaproject.core.utilities.storage.SpooledImage;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.models.ImageStatus;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.services.abstracts.CarImageService;
+import com.example.rent2gojavaproject.services.abstracts.ImageDerivativeService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Uploads car images in the background. The request streams the multipart body to a temporary
+ * file and returns; a small pool hands the file to {@link ImageStorage} and records the outcome on
+ * the car. A permit is held from spooling until the upload ends, which bounds both the uploads in
+ * flight and the temporary files on disk.
+ */
+@Service
+@Slf4j
+public class CarImageManager implements CarImageService {
+
+    private static final String KEY_PREFIX = "rent2go/carImages/";
+
+    private final ImageStorage imageStorage;
+    private final CarRepository carRepository;
+    private final ImageDerivativeService derivativeService;
+    private final TableVersions tableVersions;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public CarImageManager(ImageStorage imageStorage,
+                           CarRepository carRepository,
+                           ImageDerivativeService derivativeService,
+                           TableVersions tableVersions,
+                           @Value("${storage.images.upload-concurrency:4}") int concurrency,
+                           @Value("${storage.images.max-pending:64}") int maxPending) {
+        this.imageStorage = imageStorage;
+        this.carRepository = carRepository;
+        this.derivativeService = derivativeService;
+        this.tableVersions = tableVersions;
+        this.permits = new Semaphore(maxPending);
+        this.executor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("car-image-upload-"));
+    }
+
+    @Override
+    public SpooledImage spool(MultipartFile file) throws IOException {
+
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException("Too many image uploads in progress, please try again shortly.");
+        }
+        Path path = null;
+        try {
+            path = Files.createTempFile("car-image-", ".upload");
+            file.transferTo(path);
+            return new SpooledImage(path, file.getContentType());
+        } catch (IOException | RuntimeException exception) {
+            deleteQuietly(path);
+            permits.release();
+            throw exception;
+        }
+    }
+
+    @Override
+    public void upload(int carId, String key, SpooledImage image) {
+        executor.execute(() -> {
+            try {
+                String url = imageStorage.store(KEY_PREFIX + key, image.getFile(), image.getContentType());
+                Map<ImageVariant, String> derivatives = derivativeService
+                        .storeDerivatives(KEY_PREFIX + key, image.getFile(), image.getContentType())
+                        .exceptionally(exception -> {
+                            log.warn("Thumbnails for car {} could not be generated", carId, exception);
+                            return Map.of();
+                        })
+                        .join();
+                carRepository.updateImage(carId, url, derivatives.get(ImageVariant.THUMB), ImageStatus.READY);
+            } catch (Exception exception) {
+                log.error("Image upload for car {} failed", carId, exception);
+                carRepository.updateImage(carId, null, null, ImageStatus.FAILED);
+            } finally {
+                tableVersions.changed(TableVersions.CARS);
+                discard(image);
+            }
+        });
+    }
+
+    @Override
+    public void discard(SpooledImage image) {
+        deleteQuietly(image.getFile());
+        permits.release();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            log.warn("Could not delete temporary image {}", path, exception);
+        }
+    }
+}
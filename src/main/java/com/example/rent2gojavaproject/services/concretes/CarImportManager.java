@@ -0,0 +1,271 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
+import com.example.rent2gojavaproject.core.utilities.alerts.Message;
+import com.example.rent2gojavaproject.core.utilities.csv.CsvReader;
+import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.repositories.ColorRepository;
+import com.example.rent2gojavaproject.repositories.ModelRepository;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
+import com.example.rent2gojavaproject.services.abstracts.CarImportService;
+import com.example.rent2gojavaproject.services.dtos.requests.carRequest.AddCarRequest;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.CarImportError;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarImportResponse;
+import com.example.rent2gojavaproject.services.rules.CarBusinessRules;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports cars from a CSV or NDJSON body without holding the file in memory. Rows are read into
+ * chunks; each chunk checks its plates, model ids and color ids with one {@code IN} query apiece
+ * and is saved with a single {@code saveAll}, which the pooled ids turn into JDBC batches. Each
+ * chunk runs in its own short transaction, so no connection is held while the body is read. A row
+ * that fails is reported by line number and the rest of the import carries on; every failure is
+ * counted, but only the first {@value #MAX_REPORTED_ERRORS} are listed. CSV follows RFC 4180, so
+ * quoted fields may contain commas, quotes and line breaks.
+ */
+@Service
+@AllArgsConstructor
+public class CarImportManager implements CarImportService {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<String> COLUMNS = List.of("kilometer", "year", "dailyPrice", "plate", "modelId",
+            "colorId", "bodyType", "fuelType", "gearType", "cylinderCount", "enginePower");
+
+    private final CarRepository carRepository;
+    private final ModelRepository modelRepository;
+    private final ColorRepository colorRepository;
+    private final CarBusinessRules businessRules;
+    private final ModelMapperService mapperService;
+    private final CarAvailabilityService carAvailabilityService;
+    private final TableVersions tableVersions;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public DataResult<GetCarImportResponse> importCars(InputStream body, MediaType contentType) throws IOException {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ImportReport report = new ImportReport();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            CsvReader csvReader = new CsvReader(reader);
+            List<String> header = readHeader(csvReader.readRecord());
+            try {
+                List<String> cells;
+                while ((cells = csvReader.readRecord()) != null) {
+                    if (cells.size() > 1 || !cells.get(0).isBlank()) {
+                        collect(parseCsv(csvReader.getRecordLineNumber(), header, cells), chunk, report);
+                    }
+                }
+            } catch (EOFException exception) {
+                chunk.add(new ImportRow(csvReader.getRecordLineNumber(), null, exception.getMessage()));
+            }
+        } else {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    collect(parseJson(lineNumber, line), chunk, report);
+                }
+            }
+        }
+        importChunk(chunk, report);
+
+        if (report.imported > 0) {
+            this.tableVersions.changed(TableVersions.CARS);
+        }
+
+        GetCarImportResponse response = new GetCarImportResponse(report.imported, report.failed, report.errors);
+        return new SuccessDataResult<>(response, Message.ADD.getMessage());
+    }
+
+    private void collect(ImportRow row, List<ImportRow> chunk, ImportReport report) {
+
+        chunk.add(row);
+        if (chunk.size() == CHUNK_SIZE) {
+            importChunk(chunk, report);
+            chunk.clear();
+        }
+    }
+
+    private List<String> readHeader(List<String> cells) {
+
+        if (cells == null) {
+            throw new BusinessRuleException("CSV header is missing");
+        }
+        List<String> header = cells.stream().map(String::trim).toList();
+        List<String> missing = COLUMNS.stream().filter(column -> !header.contains(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessRuleException("CSV header is missing columns : " + String.join(", ", missing));
+        }
+        return header;
+    }
+
+    private ImportRow parseCsv(int lineNumber, List<String> header, List<String> cells) {
+
+        if (cells.size() != header.size()) {
+            return new ImportRow(lineNumber, null, "Expected " + header.size() + " columns but found " + cells.size());
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < cells.size(); i++) {
+            String cell = cells.get(i).trim();
+            if (!cell.isEmpty()) {
+                values.put(header.get(i), cell);
+            }
+        }
+        try {
+            return checkRow(lineNumber, this.objectMapper.convertValue(values, AddCarRequest.class));
+        } catch (IllegalArgumentException exception) {
+            return new ImportRow(lineNumber, values.get("plate"), describe(exception.getCause()));
+        }
+    }
+
+    private ImportRow parseJson(int lineNumber, String line) {
+
+        try {
+            return checkRow(lineNumber, this.objectMapper.readValue(line, AddCarRequest.class));
+        } catch (IOException exception) {
+            return new ImportRow(lineNumber, null, describe(exception));
+        }
+    }
+
+    private String describe(Throwable exception) {
+
+        if (exception instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return "Invalid value for " + mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+        }
+        return "Malformed row";
+    }
+
+    private ImportRow checkRow(int lineNumber, AddCarRequest request) {
+
+        ImportRow row = new ImportRow(lineNumber, request.getPlate(), null);
+        Set<ConstraintViolation<AddCarRequest>> violations = this.validator.validate(request);
+        if (!violations.isEmpty()) {
+            row.error = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" "));
+        } else {
+            row.error = this.businessRules.carTypeViolation(request.getBodyType(), request.getFuelType(), request.getGearType());
+        }
+        if (row.error == null) {
+            row.request = request;
+            row.plate = this.businessRules.normalizePlate(request.getPlate());
+        }
+        return row;
+    }
+
+    private void importChunk(List<ImportRow> chunk, ImportReport report) {
+
+        List<ImportRow> accepted = new ArrayList<>();
+        List<Car> cars = new ArrayList<>();
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> saveChunk(chunk, report, accepted, cars));
+        } catch (DataAccessException exception) {
+            for (ImportRow row : accepted) {
+                report.plates.remove(row.plate);
+                report.fail(row.lineNumber, row.plate, "Row could not be saved, retry it");
+            }
+            return;
+        }
+        cars.forEach(car -> this.carAvailabilityService.addCar(car.getId()));
+        report.imported += cars.size();
+    }
+
+    private void saveChunk(List<ImportRow> chunk, ImportReport report, List<ImportRow> accepted, List<Car> cars) {
+
+        List<ImportRow> valid = chunk.stream().filter(row -> row.error == null).toList();
+        if (!valid.isEmpty()) {
+            Set<String> takenPlates = new HashSet<>(this.carRepository.findPlatesIn(
+                    valid.stream().map(row -> row.plate).collect(Collectors.toSet())));
+            Set<Integer> modelIds = new HashSet<>(this.modelRepository.findIdsIn(
+                    valid.stream().map(row -> row.request.getModelId()).collect(Collectors.toSet())));
+            Set<Integer> colorIds = new HashSet<>(this.colorRepository.findIdsIn(
+                    valid.stream().map(row -> row.request.getColorId()).collect(Collectors.toSet())));
+
+            for (ImportRow row : valid) {
+                if (!modelIds.contains(row.request.getModelId())) {
+                    row.error = "Model ID doesn't exist : " + row.request.getModelId();
+                } else if (!colorIds.contains(row.request.getColorId())) {
+                    row.error = "Color ID doesn't exist : " + row.request.getColorId();
+                } else if (takenPlates.contains(row.plate) || !report.plates.add(row.plate)) {
+                    row.error = "Car Plate already exists! : " + row.plate;
+                }
+            }
+        }
+
+        for (ImportRow row : chunk) {
+            if (row.error != null) {
+                report.fail(row.lineNumber, row.plate, row.error);
+                continue;
+            }
+            Car car = this.mapperService.forRequest().map(row.request, Car.class);
+            car.setPlate(row.plate);
+            accepted.add(row);
+            cars.add(car);
+        }
+        if (!cars.isEmpty()) {
+            this.carRepository.saveAll(cars);
+        }
+    }
+
+    private static final class ImportRow {
+
+        private final int lineNumber;
+        private String plate;
+        private AddCarRequest request;
+        private String error;
+
+        private ImportRow(int lineNumber, String plate, String error) {
+            this.lineNumber = lineNumber;
+            this.plate = plate;
+            this.error = error;
+        }
+    }
+
+    private static final class ImportReport {
+
+        private final Set<String> plates = new HashSet<>();
+        private final List<CarImportError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        private void fail(int lineNumber, String plate, String error) {
+
+            this.failed++;
+            if (this.errors.size() < MAX_REPORTED_ERRORS) {
+                this.errors.add(new CarImportError(lineNumber, plate, error));
+            }
+        }
+    }
+}
@@ -3,98 +3,133 @@ package com.example.rent2gojavaproject.services.concretes;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
+import com.example.rent2gojavaproject.core.utilities.storage.SpooledImage;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
 import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.models.ImageStatus;
 import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.repositories.projections.CarListProjection;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
+import com.example.rent2gojavaproject.services.abstracts.CarImageService;
 import com.example.rent2gojavaproject.services.abstracts.CarService;
-import com.example.rent2gojavaproject.services.abstracts.FileUpload;
 import com.example.rent2gojavaproject.services.dtos.requests.carRequest.AddCarRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.carRequest.UpdateCarRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarResponse;
 import com.example.rent2gojavaproject.services.rules.CarBusinessRules;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
 public class CarManager implements CarService {
 
+    private static final Set<String> SORTABLE = Set.of("id", "dailyPrice", "kilometer", "year", "plate");
+    private static final CarListProjection LIST_PROJECTION = new CarListProjection();
+
     private final CarRepository carRepository;
 
     private ModelMapperService mapperService;
 
     private CarBusinessRules businessRules;
 
-    private EntityManager entityManager;
 
-    private FileUpload  fileUpload;
+    private KeysetPaginator paginator;
 
+    private CarImageService carImageService;
 
-    @Override
-    public DataResult<List<GetCarListResponse>> getAllCars() {
+    private CarAvailabilityService carAvailabilityService;
 
-        List<Car> cars = this.carRepository.findAll();
-        List<GetCarListResponse> responses = cars.stream().map(car -> this.mapperService
-                        .forResponse()
-                        .map(car, GetCarListResponse.class))
-                .collect(Collectors.toList());
+    private TableVersions tableVersions;
 
 
-        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
-    }
-
     @Override
-    public DataResult<Iterable<GetCarListResponse>> findAll(boolean isActive) {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetCarListResponse>> getAllCars(CursorPageRequest pageRequest) {
+
+        CursorPage<GetCarListResponse> page = this.paginator.findAll(Car.class, LIST_PROJECTION, pageRequest, SORTABLE);
 
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterCar");
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
+    }
 
-        filter.setParameter("isActive", isActive);
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<List<GetCarListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        Iterable<GetCarListResponse> cars = this.carRepository.findAll()
-                .stream().map(car -> this.mapperService.forResponse()
-                        .map(car, GetCarListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterCar");
+        CursorPage<GetCarListResponse> page = this.paginator.findAll(Car.class, this.carRepository.whereActive(isActive),
+                LIST_PROJECTION, pageRequest, SORTABLE);
 
-        return new SuccessDataResult<>(cars, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetCarResponse> getById(int id) {
 
-        Car car = this.carRepository.findById(id).orElseThrow(() -> new NotFoundException("Couldn't find car id : " + id));
+        Car car = this.carRepository.findDetailById(id).orElseThrow(() -> new NotFoundException("Couldn't find car id : " + id));
         GetCarResponse response = this.mapperService.forResponse().map(car, GetCarResponse.class);
 
         return new SuccessDataResult<>(response, Message.GET.getMessage());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<List<GetCarListResponse>> getAvailableCars(LocalDate startDate, LocalDate endDate,
+                                                                 CursorPageRequest pageRequest) {
+
+        this.businessRules.checkAvailabilityPeriod(startDate, endDate);
+
+        CursorPage<GetCarListResponse> page = this.paginator.<Car, GetCarListResponse, Integer>findAllByIds(
+                Car.class, LIST_PROJECTION, pageRequest,
+                (afterId, limit) -> this.carAvailabilityService.getAvailableCarIds(startDate, endDate, afterId, limit));
+
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
+    }
+
+    /**
+     * Runs outside a service transaction: spooling the image should not hold a connection, and the
+     * background upload must only start once the car row is committed.
+     */
     @Override
     public Result addCar(AddCarRequest addCarRequest, MultipartFile file) throws IOException {
 
-        String imageUrl= fileUpload.uploadFile(file,addCarRequest.getPlate());
+        this.businessRules.checkImage(file);
 
         String editPlate = this.businessRules.plateUniqueness(addCarRequest.getPlate());
         addCarRequest.setPlate(editPlate);
 
         this.businessRules.updateCarMethod(addCarRequest.getModelId(), addCarRequest.getColorId());
-
+        this.businessRules.checkCarTypes(addCarRequest.getBodyType(), addCarRequest.getFuelType(), addCarRequest.getGearType());
         Car car = this.mapperService.forRequest().map(addCarRequest, Car.class);
-        car.setImageUrl(imageUrl);
-        this.carRepository.save(car);
+        car.setImageStatus(ImageStatus.PENDING);
+
+        // the spooled image holds an upload permit until the upload releases it
+        SpooledImage image = this.carImageService.spool(file);
+        try {
+            this.carRepository.save(car);
+            this.carImageService.upload(car.getId(), car.getPlate(), image);
+        } catch (RuntimeException exception) {
+            this.carImageService.discard(image);
+            throw exception;
+        }
+        this.carAvailabilityService.addCar(car.getId());
+
+        this.tableVersions.changed(TableVersions.CARS);
 
         return new SuccessResult(Message.ADD.getMessage());
 
@@ -102,36 +137,55 @@ public class CarManager implements CarService {
 
 
     @Override
+    @Transactional
     public Result updateCar(UpdateCarRequest updateCarRequest) {
 
         String editPlate = this.businessRules.plateUniqueness(updateCarRequest.getPlate());
         updateCarRequest.setPlate(editPlate);
         this.businessRules.updateCarMethod(updateCarRequest.getModelId(), updateCarRequest.getColorId());
-        this.carRepository.findById(updateCarRequest.getId()).orElseThrow(() -> new NotFoundException("Car not found"));
+        Car existingCar = this.carRepository.findById(updateCarRequest.getId()).orElseThrow(() -> new NotFoundException("Car not found"));
 
         Car car = this.mapperService.forRequest().map(updateCarRequest, Car.class);
+        car.setImageStatus(existingCar.getImageStatus());
+        car.setThumbnailUrl(existingCar.getThumbnailUrl());
         this.carRepository.save(car);
+        TransactionCallbacks.afterCommit(() -> {
+            if (car.isActive()) {
+                this.carAvailabilityService.addCar(car.getId());
+            } else {
+                this.carAvailabilityService.removeCar(car.getId());
+            }
+        });
+
+        this.tableVersions.changed(TableVersions.CARS);
 
         return new SuccessResult(Message.UPDATE.getMessage());
     }
 
     @Override
+    @Transactional
     public Result deleteCar(int id) {
 
         Car car = this.carRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found : " + id));
         car.setDeletedAt(LocalDate.now());
 
-        this.carRepository.deleteById(id);
+        this.carRepository.saveAndFlush(car);
+        this.carRepository.delete(car);
+        TransactionCallbacks.afterCommit(() -> this.carAvailabilityService.removeCar(id));
+
+        this.tableVersions.changed(TableVersions.CARS);
 
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByPlate(String plate) {
         return this.carRepository.existsByPlate(plate);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(int id) {
         return this.carRepository.existsById(id);
     }
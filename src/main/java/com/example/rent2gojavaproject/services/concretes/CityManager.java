@@ -1,5 +1,6 @@
 package com.example.rent2gojavaproject.services.concretes;
 
+import com.example.rent2gojavaproject.config.CacheConfig;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
@@ -9,7 +10,9 @@ import com.example.rent2gojavaproject.repositories.CityRepository;
 import com.example.rent2gojavaproject.services.abstracts.CityService;
 import com.example.rent2gojavaproject.services.dtos.responses.cityResponse.GetCityListResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +25,8 @@ public class CityManager implements CityService {
 
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CITIES, key = "'all'")
     public DataResult<List<GetCityListResponse>> getAllCities() {
 
         List<City> cities = this.cityRepository.findAll();
@@ -1,12 +1,17 @@
 package com.example.rent2gojavaproject.services.concretes;
 
+import com.example.rent2gojavaproject.config.CacheConfig;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
 import com.example.rent2gojavaproject.models.Color;
 import com.example.rent2gojavaproject.repositories.ColorRepository;
 import com.example.rent2gojavaproject.services.abstracts.ColorService;
@@ -15,26 +20,31 @@ import com.example.rent2gojavaproject.services.dtos.requests.colorRequest.Update
 import com.example.rent2gojavaproject.services.dtos.responses.colorResponse.GetColorListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.colorResponse.GetColorResponse;
 import com.example.rent2gojavaproject.services.rules.ColorBusinessRules;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class ColorManager implements ColorService {
 
+    private static final Set<String> SORTABLE = Set.of("id", "name");
+
     private final ColorRepository colorRepository;
     private final ColorBusinessRules businessRules;
     private ModelMapperService mapperService;
-    private EntityManager entityManager;
+    private KeysetPaginator paginator;
+    private TableVersions tableVersions;
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COLORS, key = "'all'")
     public DataResult<List<GetColorListResponse>> getAllColors() {
         List<Color> colors = this.colorRepository.findAll();
         List<GetColorListResponse> responses = colors.stream().map(color -> this.mapperService
@@ -46,24 +56,21 @@ public class ColorManager implements ColorService {
     }
 
     @Override
-    public DataResult<Iterable<GetColorListResponse>> findAll(boolean isActive) {
-
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterColor");
-
-        filter.setParameter("isActive", isActive);
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COLORS, key = "'active:' + #isActive + ':' + #pageRequest")
+    public DataResult<List<GetColorListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        Iterable<GetColorListResponse> colors = this.colorRepository.findAll()
-                .stream().map(color -> this.mapperService.forResponse()
-                        .map(color, GetColorListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterColor");
+        CursorPage<GetColorListResponse> page = this.paginator.findAll(this.colorRepository, Color.class,
+                this.colorRepository.whereActive(isActive), pageRequest, SORTABLE,
+                color -> this.mapperService.forResponse().map(color, GetColorListResponse.class));
 
-        return new SuccessDataResult<>(colors, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.COLORS, key = "#id")
     public DataResult<GetColorResponse> getById(int id) {
 
         Color color = this.colorRepository.findById(id).orElseThrow(() -> new NotFoundException("Couldn't find color id : " + id));
@@ -73,6 +80,7 @@ public class ColorManager implements ColorService {
     }
 
     @Override
+    @Transactional
     public Result addColor(AddColorRequest addColorRequest) {
 
         String editName = businessRules.checkIfExistsByName(addColorRequest.getName());
@@ -81,10 +89,13 @@ public class ColorManager implements ColorService {
         color.setName(editName);
         this.colorRepository.save(color);
 
+        this.tableVersions.changed(TableVersions.COLORS, TableVersions.CARS);
+
         return new SuccessResult(Message.ADD.getMessage());
     }
 
     @Override
+    @Transactional
     public Result updateColor(UpdateColorRequest updateColorRequest) {
 
         String editName = businessRules.checkIfExistsByName(updateColorRequest.getName());
@@ -94,22 +105,28 @@ public class ColorManager implements ColorService {
         color.setName(editName);
         this.colorRepository.save(color);
 
+        this.tableVersions.changed(TableVersions.COLORS, TableVersions.CARS);
+
         return new SuccessResult(Message.UPDATE.getMessage());
     }
 
     @Override
+    @Transactional
     public Result deleteColor(int id) {
 
         Color color = this.colorRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found : " + id));
         color.setDeletedAt(LocalDate.now());
 
-        this.colorRepository.save(color);
+        this.colorRepository.saveAndFlush(color);
         this.colorRepository.delete(color);
 
+        this.tableVersions.changed(TableVersions.COLORS, TableVersions.CARS);
+
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(int id) {
         return this.colorRepository.existsById(id);
     }
@@ -3,66 +3,63 @@ package com.example.rent2gojavaproject.services.concretes;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
 import com.example.rent2gojavaproject.models.Customer;
 import com.example.rent2gojavaproject.repositories.CustomerRepository;
+import com.example.rent2gojavaproject.repositories.projections.CustomerListProjection;
 import com.example.rent2gojavaproject.services.abstracts.CustomerService;
 import com.example.rent2gojavaproject.services.dtos.requests.customerRequest.AddCustomerRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.customerRequest.UpdateCustomerRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.customerResponse.GetCustomerListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.customerResponse.GetCustomerResponse;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
 public class CustomerManager implements CustomerService {
+
+    private static final Set<String> SORTABLE = Set.of("id");
+    private static final CustomerListProjection LIST_PROJECTION = new CustomerListProjection();
+
     private CustomerRepository customerRepository;
     private ModelMapperService mapperService;
-    private EntityManager entityManager;
+    private KeysetPaginator paginator;
 
     @Override
-    public DataResult<List<GetCustomerListResponse>> getAllCustomer() {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetCustomerListResponse>> getAllCustomer(CursorPageRequest pageRequest) {
 
-        List<Customer> customers = this.customerRepository.findAll();
-        List<GetCustomerListResponse> responses = customers.stream()
-                .map(customer -> this.mapperService.forResponse()
-                        .map(customer, GetCustomerListResponse.class))
-                .collect(Collectors.toList());
+        CursorPage<GetCustomerListResponse> page = this.paginator.findAll(Customer.class, LIST_PROJECTION, pageRequest, SORTABLE);
 
-        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
-    public DataResult<Iterable<GetCustomerListResponse>> findAll(boolean isActive) {
-
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterCustomer");
+    @Transactional(readOnly = true)
+    public DataResult<List<GetCustomerListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        filter.setParameter("isActive", isActive);
+        CursorPage<GetCustomerListResponse> page = this.paginator.findAll(Customer.class, this.customerRepository.whereActive(isActive),
+                LIST_PROJECTION, pageRequest, SORTABLE);
 
-        Iterable<GetCustomerListResponse> customers = this.customerRepository
-                .findAll().stream().map(customer -> this.mapperService.forResponse()
-                        .map(customer, GetCustomerListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterCustomer");
-
-        return new SuccessDataResult<>(customers, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetCustomerResponse> getById(int id) {
-        Customer customer = this.customerRepository.findById(id)
+        Customer customer = this.customerRepository.findDetailById(id)
                 .orElseThrow(() -> new NotFoundException("Customer not found: " + id));
 
         GetCustomerResponse response = this.mapperService.forResponse().map(customer, GetCustomerResponse.class);
@@ -71,6 +68,7 @@ public class CustomerManager implements CustomerService {
     }
 
     @Override
+    @Transactional
     public Result addCustomer(AddCustomerRequest addCustomerRequest) {
 
         Customer customer = this.mapperService.forRequest().map(addCustomerRequest, Customer.class);
@@ -80,6 +78,7 @@ public class CustomerManager implements CustomerService {
     }
 
     @Override
+    @Transactional
     public Result updateCustomer(UpdateCustomerRequest updateCustomerRequest) {
 
         this.customerRepository.findById(updateCustomerRequest.getId())
@@ -92,19 +91,21 @@ public class CustomerManager implements CustomerService {
     }
 
     @Override
+    @Transactional
     public Result DeleteCustomer(int id) {
 
         Customer customer = this.customerRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("id not found : " + id));
         customer.setDeletedAt(LocalDate.now());
 
-        this.customerRepository.save(customer);
+        this.customerRepository.saveAndFlush(customer);
         this.customerRepository.delete(customer);
 
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(int id) {
         return this.customerRepository.existsById(id);
     }
@@ -3,66 +3,90 @@ package com.example.rent2gojavaproject.services.concretes;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
 import com.example.rent2gojavaproject.models.Discount;
 import com.example.rent2gojavaproject.repositories.DiscountRepository;
+import com.example.rent2gojavaproject.repositories.projections.DiscountRate;
 import com.example.rent2gojavaproject.services.abstracts.DiscountService;
 import com.example.rent2gojavaproject.services.dtos.requests.discountRequest.AddDiscountRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.discountRequest.UpdateDiscountRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.discountResponse.GetDiscountListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.discountResponse.GetDiscountResponse;
-import jakarta.persistence.EntityManager;
-import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Besides the CRUD endpoints, keeps an immutable code to rate table of the active discounts so
+ * rental admission never has to query them. Every write swaps in a freshly read table, and a
+ * periodic reload picks up rows changed outside the application.
+ */
+@Slf4j
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class DiscountManager implements DiscountService {
 
-    private DiscountRepository discountRepository;
-    private ModelMapperService mapperService;
-    private EntityManager entityManager;
+    private static final Set<String> SORTABLE = Set.of("id", "discountCode");
 
+    private final DiscountRepository discountRepository;
+    private final ModelMapperService mapperService;
+    private final KeysetPaginator paginator;
 
-    @Override
-    public DataResult<List<GetDiscountListResponse>> getAllDiscounts() {
+    private volatile Map<String, DiscountRate> ratesByCode = Map.of();
 
-        List<Discount> discounts = this.discountRepository.findAll();
-        List<GetDiscountListResponse> responses = discounts.stream()
-                .map(discount -> this.mapperService.forResponse()
-                        .map(discount, GetDiscountListResponse.class))
-                .collect(Collectors.toList());
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${discount.table.reload-ms:300000}", fixedDelayString = "${discount.table.reload-ms:300000}")
+    public synchronized void reload() {
 
-        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+        Map<String, DiscountRate> rates = new HashMap<>();
+        for (DiscountRate rate : this.discountRepository.findAllActiveRates()) {
+            rates.put(rate.getDiscountCode(), rate);
+        }
+
+        this.ratesByCode = Map.copyOf(rates);
+        log.debug("Discount table reloaded with {} codes", rates.size());
     }
 
     @Override
-    public DataResult<Iterable<GetDiscountListResponse>> findAll(boolean isActive) {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetDiscountListResponse>> getAllDiscounts(CursorPageRequest pageRequest) {
 
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterDiscount");
+        CursorPage<GetDiscountListResponse> page = this.paginator.findAll(this.discountRepository, Discount.class, pageRequest, SORTABLE,
+                discount -> this.mapperService.forResponse().map(discount, GetDiscountListResponse.class));
 
-        filter.setParameter("isActive", isActive);
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
+    }
 
-        Iterable<GetDiscountListResponse> discounts = this.discountRepository.findAll()
-                .stream().map(discount -> this.mapperService.forResponse()
-                        .map(discount, GetDiscountListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterDiscount");
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<List<GetDiscountListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
+
+        CursorPage<GetDiscountListResponse> page = this.paginator.findAll(this.discountRepository, Discount.class,
+                this.discountRepository.whereActive(isActive), pageRequest, SORTABLE,
+                discount -> this.mapperService.forResponse().map(discount, GetDiscountListResponse.class));
 
-        return new SuccessDataResult<>(discounts, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetDiscountResponse> getById(int id) {
 
         Discount discount = this.discountRepository.findById(id)
@@ -73,40 +97,46 @@ public class DiscountManager implements DiscountService {
     }
 
     @Override
+    @Transactional
     public Result addDiscount(AddDiscountRequest addDiscountRequest) {
 
         Discount discount = this.mapperService.forRequest().map(addDiscountRequest, Discount.class);
 
         this.discountRepository.save(discount);
+        TransactionCallbacks.afterCommit(this::reload);
 
         return new SuccessResult(Message.ADD.getMessage());
     }
 
     @Override
+    @Transactional
     public Result updateDiscount(UpdateDiscountRequest updateDiscountRequest) {
 
         this.discountRepository.findById(updateDiscountRequest.getId()).orElseThrow(() -> new NotFoundException("Couldn't find discount id"));
 
         Discount discount = this.mapperService.forRequest().map(updateDiscountRequest, Discount.class);
         this.discountRepository.save(discount);
+        TransactionCallbacks.afterCommit(this::reload);
 
         return new SuccessResult(Message.UPDATE.getMessage());
     }
 
     @Override
+    @Transactional
     public Result deleteDiscount(int id) {
 
         Discount discount = this.discountRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found"));
         discount.setDeletedAt(LocalDate.now());
-        this.discountRepository.save(discount);
+        this.discountRepository.saveAndFlush(discount);
         this.discountRepository.delete(discount);
+        TransactionCallbacks.afterCommit(this::reload);
 
 
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
-    public Discount findByDiscountCode(String discountCode) {
-        return this.discountRepository.findByDiscountCode(discountCode);
+    public DiscountRate findRateByCode(String discountCode) {
+        return discountCode == null ? null : this.ratesByCode.get(discountCode);
     }
 }
@@ -3,68 +3,64 @@ package com.example.rent2gojavaproject.services.concretes;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
 import com.example.rent2gojavaproject.models.Employee;
 import com.example.rent2gojavaproject.repositories.EmployeeRepository;
+import com.example.rent2gojavaproject.repositories.projections.EmployeeListProjection;
 import com.example.rent2gojavaproject.services.abstracts.EmployeeService;
 import com.example.rent2gojavaproject.services.dtos.requests.employeeRequest.AddEmployeeRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.employeeRequest.UpdateEmployeeRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.employeeResponse.GetEmployeeListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.employeeResponse.GetEmployeeResponse;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
 public class EmployeeManager implements EmployeeService {
 
+    private static final Set<String> SORTABLE = Set.of("id", "salary");
+    private static final EmployeeListProjection LIST_PROJECTION = new EmployeeListProjection();
+
     private EmployeeRepository employeeRepository;
     private ModelMapperService mapperService;
-    private EntityManager entityManager;
+    private KeysetPaginator paginator;
 
     @Override
-    public DataResult<List<GetEmployeeListResponse>> getAllEmployees() {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetEmployeeListResponse>> getAllEmployees(CursorPageRequest pageRequest) {
 
-        List<Employee> employees = this.employeeRepository.findAll();
-        List<GetEmployeeListResponse> responses = employees.stream()
-                .map(employee -> this.mapperService.forResponse()
-                        .map(employee, GetEmployeeListResponse.class))
-                .collect(Collectors.toList());
+        CursorPage<GetEmployeeListResponse> page = this.paginator.findAll(Employee.class, LIST_PROJECTION, pageRequest, SORTABLE);
 
-        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
-    public DataResult<Iterable<GetEmployeeListResponse>> findAll(boolean isActive) {
-
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterEmployee");
+    @Transactional(readOnly = true)
+    public DataResult<List<GetEmployeeListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        filter.setParameter("isActive", isActive);
+        CursorPage<GetEmployeeListResponse> page = this.paginator.findAll(Employee.class, this.employeeRepository.whereActive(isActive),
+                LIST_PROJECTION, pageRequest, SORTABLE);
 
-        Iterable<GetEmployeeListResponse> employees = this.employeeRepository.findAll()
-                .stream().map(employee -> this.mapperService.forResponse()
-                        .map(employee, GetEmployeeListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterEmployee");
-
-        return new SuccessDataResult<>(employees, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetEmployeeResponse> getById(int id) {
 
-        Employee employee = this.employeeRepository.findById(id)
+        Employee employee = this.employeeRepository.findDetailById(id)
                 .orElseThrow(() -> new NotFoundException("Couldn't find employee id : " + id));
         GetEmployeeResponse response = this.mapperService.forResponse().map(employee, GetEmployeeResponse.class);
 
@@ -73,6 +69,7 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional
     public Result addEmployee(AddEmployeeRequest addEmployeeRequest) {
 
         Employee employee = this.mapperService.forRequest().map(addEmployeeRequest, Employee.class);
@@ -83,6 +80,7 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional
     public Result updateEmployee(UpdateEmployeeRequest updateEmployeeRequest) {
 
         this.employeeRepository.findById(updateEmployeeRequest.getId()).orElseThrow(() -> new NotFoundException("Couldn't find employee id"));
@@ -94,17 +92,19 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional
     public Result deleteEmployee(int id) {
 
         Employee employee = this.employeeRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found"));
         employee.setDeletedAt(LocalDate.now());
-        this.employeeRepository.save(employee);
+        this.employeeRepository.saveAndFlush(employee);
         this.employeeRepository.delete(employee);
 
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(int id) {
         return this.employeeRepository.existsById(id);
     }
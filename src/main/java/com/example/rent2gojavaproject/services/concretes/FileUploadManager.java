@@ -1,38 +1,57 @@
 package com.example.rent2gojavaproject.services.concretes;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.example.rent2gojavaproject.core.utilities.storage.ImageStorage;
 import com.example.rent2gojavaproject.services.abstracts.FileUpload;
-import io.github.cdimascio.dotenv.Dotenv;
+import com.example.rent2gojavaproject.services.abstracts.ImageDerivativeService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.UUID;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class FileUploadManager implements FileUpload {
 
-    private final Cloudinary cloudinary;
+    private final ImageStorage imageStorage;
+    private final ImageDerivativeService derivativeService;
 
     @Override
     public String uploadFile(MultipartFile multipartFile,String uniqColumn) throws IOException {
         String publicId = "rent2go/carImages/" + uniqColumn;
 
-        Map params1 = ObjectUtils.asMap(
-                "use_filename", multipartFile.getName(),
-                "unique_filename", true,
-                "overwrite", true,
-                "public_id", publicId
-        );
-
-        return cloudinary.uploader()
-                .upload(  multipartFile.getBytes(),params1)
+        Path file = Files.createTempFile("upload-", ".tmp");
+        boolean handedOff = false;
+        try {
+            multipartFile.transferTo(file);
+            String url = imageStorage.store(publicId, file, multipartFile.getContentType());
+
+            // derivatives are stored next to the original in the background; the temp file goes with them
+            derivativeService.storeDerivatives(publicId, file, multipartFile.getContentType())
+                    .whenComplete((urls, exception) -> {
+                        if (exception != null) {
+                            log.warn("Thumbnails for {} could not be generated", publicId, exception);
+                        }
+                        deleteQuietly(file);
+                    });
+            handedOff = true;
+            return url;
+        } finally {
+            if (!handedOff) {
+                deleteQuietly(file);
+            }
+        }
+    }
 
-                .get("url")
-                .toString();
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            log.warn("Could not delete temporary upload {}", file, exception);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,41 +1,173 @@
 package com.example.rent2gojavaproject.services.concretes;
 
-import com.example.rent2gojavaproject.core.utilities.ImageDataUtils.ImageUtils;
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
+import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
+import com.example.rent2gojavaproject.core.utilities.alerts.Message;
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
+import com.example.rent2gojavaproject.core.utilities.storage.ContentAddressedStore;
+import com.example.rent2gojavaproject.core.utilities.storage.ImageBytesCache;
+import com.example.rent2gojavaproject.core.utilities.storage.ImageVariant;
+import com.example.rent2gojavaproject.core.utilities.storage.StoredImage;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
 import com.example.rent2gojavaproject.models.ImageData;
 import com.example.rent2gojavaproject.repositories.ImageDataRepository;
+import com.example.rent2gojavaproject.repositories.projections.ImageRef;
 import com.example.rent2gojavaproject.services.abstracts.ImageDataService;
+import com.example.rent2gojavaproject.services.abstracts.ImageDerivativeService;
+import com.example.rent2gojavaproject.services.dtos.responses.imageResponse.GetImageCacheStatsResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.imageResponse.GetImageStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Optional;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.zip.InflaterInputStream;
 
 @Service
 @AllArgsConstructor
+@Slf4j
 public class ImageDataManager implements ImageDataService {
 
+    private static final String DEFAULT_TYPE = "application/octet-stream";
+    private static final int STATS_LIMIT = 100;
+
     private final ImageDataRepository dataRepository;
+    private final ContentAddressedStore store;
+    private final ImageBytesCache imageCache;
+    private final ImageDerivativeService derivativeService;
 
     @Override
+    @Transactional
     public String uploadImage(MultipartFile file) throws IOException {
 
+        String contentHash;
+        try (InputStream content = file.getInputStream()) {
+            contentHash = store.put(content);
+        }
         ImageData imageData = dataRepository.save(ImageData.builder()
                 .name(file.getOriginalFilename())
                 .type(file.getContentType())
-                .imageData(ImageUtils.compressImage(file.getBytes())).build());
-        if (imageData != null) {
-            return "file uploaded successfully : " + file.getOriginalFilename();
+                .contentHash(contentHash)
+                .size(file.getSize()).build());
+        TransactionCallbacks.afterCommit(() -> generateDerivatives(imageData.getId(), contentHash));
+
+        return "file uploaded successfully : " + file.getOriginalFilename();
+    }
+
+    @Override
+    @Transactional
+    public StoredImage findByName(String fileName, String size) throws IOException {
+
+        ImageRef ref = dataRepository.findRefByName(fileName)
+                .orElseThrow(() -> new NotFoundException("Image not found: " + fileName));
+        if (ref.getContentHash() == null) {
+            return toStoredImage(moveToStore(ref.getId()), ref.getType());
+        }
+        // until its derivative is ready a smaller size falls back to the original
+        String variantHash = switch (size.toLowerCase(Locale.ROOT)) {
+            case "thumb" -> ref.getThumbHash();
+            case "medium" -> ref.getMediumHash();
+            case "full" -> null;
+            default -> throw new BusinessRuleException("Unknown image size: " + size);
+        };
+
+        return toStoredImage(variantHash != null ? variantHash : ref.getContentHash(), ref.getType());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StoredImage findByHash(String contentHash) throws IOException {
+
+        String type = dataRepository.findTypesByContentHash(contentHash, Limit.of(1)).stream()
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("Image not found: " + contentHash));
+
+        return toStoredImage(contentHash, type);
+    }
+
+    /**
+     * Rows uploaded before the store existed hold a deflated blob. The first read inflates it
+     * straight into the store and drops the blob from the row.
+     */
+    private String moveToStore(int id) throws IOException {
+
+        ImageData imageData = dataRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Image not found: " + id));
+        String contentHash;
+        try (InputStream content = new InflaterInputStream(new ByteArrayInputStream(imageData.getImageData()))) {
+            contentHash = store.put(content);
         }
-        return null;
+        Path file = store.find(contentHash).orElseThrow();
+        dataRepository.moveToStore(id, contentHash, Files.size(file));
+        TransactionCallbacks.afterCommit(() -> generateDerivatives(id, contentHash));
+
+        return contentHash;
+    }
+
+    private void generateDerivatives(int id, String contentHash) {
+
+        derivativeService.render(store.find(contentHash).orElseThrow())
+                .thenAccept(derivatives -> {
+                    try {
+                        if (!derivatives.isEmpty()) {
+                            dataRepository.updateDerivatives(id, putFile(derivatives.get(ImageVariant.THUMB)),
+                                    putFile(derivatives.get(ImageVariant.MEDIUM)));
+                        }
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    } finally {
+                        derivativeService.discard(derivatives);
+                    }
+                })
+                .exceptionally(exception -> {
+                    log.warn("Derivatives for image {} could not be generated", id, exception);
+                    return null;
+                });
+    }
 
+    private String putFile(Path file) throws IOException {
+        try (InputStream content = Files.newInputStream(file)) {
+            return store.put(content);
+        }
     }
 
     @Override
-    public byte[] downloadImage(String fileName) {
-        Optional<ImageData> dbImageData = dataRepository.findByName(fileName);
-        byte[] images = ImageUtils.decompressImage(dbImageData.get().getImageData());
-        return images;
+    public DataResult<GetImageCacheStatsResponse> getCacheStats() {
+
+        CacheStats totals = imageCache.totals();
+        List<GetImageStatsResponse> images = imageCache.perImage().entrySet().stream()
+                .map(entry -> new GetImageStatsResponse(entry.getKey(), entry.getValue().getSize(),
+                        entry.getValue().getHits().sum(), entry.getValue().getMisses().sum(),
+                        imageCache.isCached(entry.getKey())))
+                .sorted(Comparator.comparingLong((GetImageStatsResponse image) -> image.getHits() + image.getMisses()).reversed())
+                .limit(STATS_LIMIT)
+                .collect(Collectors.toList());
+        GetImageCacheStatsResponse response = new GetImageCacheStatsResponse(imageCache.getBudgetBytes(),
+                imageCache.usedBytes(), imageCache.isOffHeap(), totals.hitCount(), totals.missCount(),
+                totals.hitRate(), totals.evictionCount(), images);
+
+        return new SuccessDataResult<>(response, Message.GET.getMessage());
+    }
+
+    private StoredImage toStoredImage(String contentHash, String type) throws IOException {
+
+        Path file = store.find(contentHash)
+                .orElseThrow(() -> new NotFoundException("Image content is missing: " + contentHash));
 
+        return new StoredImage(contentHash, type != null ? type : DEFAULT_TYPE, imageCache.get(contentHash, file));
     }
 }
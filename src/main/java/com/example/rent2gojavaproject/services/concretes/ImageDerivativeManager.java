@@ -0,0 +1,113 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.utilities.ImageDataUtils.ImageResizer;
+import com.example.rent2gojavaproject.core.utilities.ImageDataUtils.ImageResizer.DecodedImage;
+import com.example.rent2gojavaproject.core.utilities.storage.ImageStorage;
+import com.example.rent2gojavaproject.core.utilities.storage.ImageVariant;
+import com.example.rent2gojavaproject.services.abstracts.ImageDerivativeService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates thumbnails on a small pool of its own. Decoding and scaling are CPU and memory heavy,
+ * so the pool is bounded and uploads past its queue simply go without derivatives.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeManager implements ImageDerivativeService {
+
+    private static final int QUEUE_PER_THREAD = 16;
+
+    private final ImageStorage imageStorage;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeManager(ImageStorage imageStorage,
+                                  @Value("${storage.images.derivative-threads:2}") int threads) {
+        this.imageStorage = imageStorage;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_PER_THREAD),
+                new CustomizableThreadFactory("image-derivatives-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public CompletableFuture<Map<ImageVariant, Path>> render(Path original) {
+        try {
+            return CompletableFuture.supplyAsync(() -> renderNow(original), executor);
+        } catch (RejectedExecutionException exception) {
+            log.warn("Image derivative queue is full, skipping {}", original);
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Map<ImageVariant, String>> storeDerivatives(String key, Path original, String contentType) {
+        return render(original).thenApply(derivatives -> {
+            try {
+                Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+                for (Map.Entry<ImageVariant, Path> derivative : derivatives.entrySet()) {
+                    urls.put(derivative.getKey(), imageStorage.store(key + derivative.getKey().keySuffix(),
+                            derivative.getValue(), contentType));
+                }
+                return urls;
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            } finally {
+                discard(derivatives);
+            }
+        });
+    }
+
+    @Override
+    public void discard(Map<ImageVariant, Path> derivatives) {
+        derivatives.values().forEach(path -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException exception) {
+                log.warn("Could not delete temporary derivative {}", path, exception);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private Map<ImageVariant, Path> renderNow(Path original) {
+
+        Map<ImageVariant, Path> derivatives = new EnumMap<>(ImageVariant.class);
+        try {
+            DecodedImage decoded = ImageResizer.read(original);
+            if (decoded == null) {
+                return derivatives;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                Path target = Files.createTempFile("derivative-", "." + decoded.getFormatName());
+                derivatives.put(variant, target);
+                ImageResizer.write(ImageResizer.fit(decoded.getImage(), variant.getMaxSize()),
+                        decoded.getFormatName(), target);
+            }
+            return derivatives;
+        } catch (IOException exception) {
+            discard(derivatives);
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
+import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
+import com.example.rent2gojavaproject.core.utilities.alerts.Message;
+import com.example.rent2gojavaproject.core.utilities.jobs.JobHandler;
+import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.core.utilities.results.Result;
+import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
+import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.models.Job;
+import com.example.rent2gojavaproject.models.JobStatus;
+import com.example.rent2gojavaproject.repositories.JobRepository;
+import com.example.rent2gojavaproject.repositories.projections.JobStatusCount;
+import com.example.rent2gojavaproject.services.abstracts.JobService;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobStatsResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobTypeStatsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs jobs from the {@code jobs} table. Each worker locks a batch of due rows with
+ * {@code FOR UPDATE SKIP LOCKED}, marks them running under its own name and commits, so workers on
+ * any node never pick up the same job. Failed jobs come back later with exponential backoff and are
+ * dead-lettered after the last attempt; jobs whose worker died are released once their lease ends.
+ */
+@Service
+@Slf4j
+public class JobManager implements JobService {
+
+    private static final int MAX_ERROR_LENGTH = 1_000;
+
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ModelMapperService mapperService;
+    private final Map<String, JobHandler<?>> handlers;
+    private final Map<String, TypeMetrics> metrics = new ConcurrentHashMap<>();
+    private final int workerCount;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long leaseMillis;
+    private final String nodeName = ManagementFactory.getRuntimeMXBean().getName();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public JobManager(JobRepository jobRepository,
+                      ObjectMapper objectMapper,
+                      TransactionTemplate transactionTemplate,
+                      ModelMapperService mapperService,
+                      List<JobHandler<?>> handlers,
+                      @Value("${jobs.workers:4}") int workerCount,
+                      @Value("${jobs.batch-size:10}") int batchSize,
+                      @Value("${jobs.poll-interval-ms:500}") long pollIntervalMillis,
+                      @Value("${jobs.max-attempts:5}") int maxAttempts,
+                      @Value("${jobs.initial-backoff-ms:5000}") long initialBackoffMillis,
+                      @Value("${jobs.lease-ms:300000}") long leaseMillis) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.mapperService = mapperService;
+        this.handlers = handlers.stream().collect(Collectors.toMap(JobHandler::getType, Function.identity()));
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("job-worker-");
+        threadFactory.setDaemon(true);
+        for (int i = 0; i < workerCount; i++) {
+            String workerName = nodeName + "/" + i;
+            Thread worker = threadFactory.newThread(() -> work(workerName));
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    @Override
+    @Transactional
+    public long enqueue(String type, Object payload) {
+
+        if (!handlers.containsKey(type)) {
+            throw new IllegalArgumentException("No job handler for type " + type);
+        }
+        try {
+            return jobRepository.save(new Job(type, objectMapper.writeValueAsString(payload))).getId();
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("Job payload cannot be serialized", exception);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<GetJobResponse> getById(long id) {
+
+        Job job = jobRepository.findById(id).orElseThrow(() -> new NotFoundException("Job not found: " + id));
+        GetJobResponse response = mapperService.forResponse().map(job, GetJobResponse.class);
+
+        return new SuccessDataResult<>(response, Message.GET.getMessage());
+    }
+
+    @Override
+    @Transactional
+    public Result retry(long id) {
+
+        if (jobRepository.requeueDead(id, LocalDateTime.now()) == 0) {
+            throw new BusinessRuleException("Only dead-lettered jobs can be retried: " + id);
+        }
+        return new SuccessResult(Message.QUEUED.getMessage());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<GetJobStatsResponse> getStats() {
+
+        Map<JobStatus, Long> statusCounts = new EnumMap<>(JobStatus.class);
+        for (JobStatus status : JobStatus.values()) {
+            statusCounts.put(status, 0L);
+        }
+        for (JobStatusCount count : jobRepository.countByStatus()) {
+            statusCounts.put(count.getStatus(), count.getCount());
+        }
+        List<GetJobTypeStatsResponse> types = metrics.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .collect(Collectors.toList());
+
+        return new SuccessDataResult<>(new GetJobStatsResponse(statusCounts, types), Message.GET.getMessage());
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.lease-check-ms:60000}")
+    public void releaseExpiredLeases() {
+
+        if (workerCount == 0) {
+            return;
+        }
+        int released = jobRepository.releaseExpired(LocalDateTime.now().minusNanos(leaseMillis * 1_000_000));
+        if (released > 0) {
+            log.warn("Released {} jobs whose worker lease expired", released);
+        }
+    }
+
+    private void work(String workerName) {
+
+        while (running) {
+            try {
+                List<Job> jobs = claim(workerName);
+                if (jobs.isEmpty()) {
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+                    continue;
+                }
+                jobs.forEach(job -> run(job, workerName));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                log.error("Job worker {} failed to poll", workerName, exception);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private List<Job> claim(String workerName) {
+
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Job> jobs = jobRepository.lockDue(now, batchSize);
+            if (!jobs.isEmpty()) {
+                jobRepository.markRunning(jobs.stream().map(Job::getId).toList(), workerName, now);
+                jobs.forEach(job -> job.setAttempts(job.getAttempts() + 1));
+            }
+            return jobs;
+        });
+    }
+
+    private void run(Job job, String workerName) {
+
+        TypeMetrics typeMetrics = metrics.computeIfAbsent(job.getType(), type -> new TypeMetrics());
+        long started = System.nanoTime();
+        try {
+            execute(job);
+            typeMetrics.succeeded.increment();
+            jobRepository.markSucceeded(job.getId(), workerName, LocalDateTime.now());
+        } catch (Exception exception) {
+            fail(job, workerName, exception, typeMetrics);
+        } finally {
+            typeMetrics.totalNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void execute(Job job) throws Exception {
+
+        JobHandler<T> handler = (JobHandler<T>) handlers.get(job.getType());
+        if (handler == null) {
+            throw new IllegalStateException("No job handler for type " + job.getType());
+        }
+        handler.handle(objectMapper.readValue(job.getPayload(), handler.getPayloadType()));
+    }
+
+    private void fail(Job job, String workerName, Exception exception, TypeMetrics typeMetrics) {
+
+        LocalDateTime now = LocalDateTime.now();
+        String error = abbreviate(exception.getClass().getSimpleName() + ": " + exception.getMessage());
+        if (job.getAttempts() >= maxAttempts) {
+            typeMetrics.deadLettered.increment();
+            jobRepository.markFailed(job.getId(), workerName, JobStatus.DEAD, job.getRunAt(), now, error);
+            log.error("Job {} ({}) dead-lettered after {} attempts", job.getId(), job.getType(), job.getAttempts(), exception);
+            return;
+        }
+
+        long backoff = initialBackoffMillis << Math.min(job.getAttempts() - 1, 16);
+        typeMetrics.retried.increment();
+        jobRepository.markFailed(job.getId(), workerName, JobStatus.PENDING,
+                now.plusNanos(backoff * 1_000_000), null, error);
+        log.warn("Job {} ({}) failed, retrying in {} ms: {}", job.getId(), job.getType(), backoff, error);
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String abbreviate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static final class TypeMetrics {
+
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+        private final LongAdder deadLettered = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private GetJobTypeStatsResponse toResponse(String type) {
+            long runs = succeeded.sum() + retried.sum() + deadLettered.sum();
+            double averageMillis = runs == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / runs;
+            return new GetJobTypeStatsResponse(type, succeeded.sum(), retried.sum(), deadLettered.sum(), averageMillis);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.utilities.mail.MailMessage;
+import com.example.rent2gojavaproject.core.utilities.mail.MailTemplate;
+import com.example.rent2gojavaproject.core.utilities.mail.MailTemplates;
+import com.example.rent2gojavaproject.services.abstracts.MailService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers mail off the request thread. Messages wait in a bounded queue; a few workers drain it
+ * in batches and hand each batch to the sender in one call, so a batch shares one SMTP connection.
+ * Failed messages are retried with exponential backoff until they run out of attempts.
+ */
+@Service
+@Slf4j
+public class MailManager implements MailService {
+
+    private static final String SENDER_ADDRESS = "noreply@rentogo.com.tr";
+    private static final String SENDER_NAME = "Rent2Go Company";
+    private static final int BATCH_SIZE = 20;
+
+    private final JavaMailSender mailSender;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final BlockingQueue<MailMessage> queue;
+    private final ScheduledExecutorService retryScheduler;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public MailManager(JavaMailSender mailSender,
+                       @Value("${mail.delivery.workers:2}") int workerCount,
+                       @Value("${mail.delivery.queue-capacity:1000}") int queueCapacity,
+                       @Value("${mail.delivery.max-attempts:5}") int maxAttempts,
+                       @Value("${mail.delivery.initial-backoff-ms:1000}") long initialBackoffMillis) {
+        this.mailSender = mailSender;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("mail-retry-"));
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        ThreadFactory threadFactory = daemonThreads("mail-delivery-");
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = threadFactory.newThread(this::work);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.forEach(Thread::interrupt);
+    }
+
+    @Override
+    public MailMessage sendVerificationEmail(String to, String name, String surname, String url) {
+        return enqueue(to, "Email Verification", MailTemplates.VERIFICATION_TEXT, MailTemplates.VERIFICATION_HTML,
+                Map.of("name", name, "surname", surname, "url", url));
+    }
+
+    @Override
+    public MailMessage sendResetPasswordEmail(String to, String name, String surname, String url) {
+        return enqueue(to, "Reset Password", MailTemplates.RESET_PASSWORD_TEXT, MailTemplates.RESET_PASSWORD_HTML,
+                Map.of("name", name, "surname", surname, "url", url));
+    }
+
+    private MailMessage enqueue(String to, String subject, MailTemplate text, MailTemplate html,
+                                Map<String, String> values) {
+
+        MailMessage message = new MailMessage(to, subject, text.render(values), html.render(values));
+        if (!queue.offer(message)) {
+            message.rejected("Mail queue is full");
+            log.warn("Mail queue is full, dropped message {} to {}", message.getId(), to);
+        }
+        return message;
+    }
+
+    private void work() {
+
+        List<MailMessage> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                MailMessage first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                deliver(batch);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                log.error("Mail delivery worker failed", exception);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<MailMessage> batch) {
+
+        List<MailMessage> pending = new ArrayList<>(batch.size());
+        List<MimeMessage> mimeMessages = new ArrayList<>(batch.size());
+        for (MailMessage message : batch) {
+            try {
+                mimeMessages.add(toMimeMessage(message));
+                pending.add(message);
+            } catch (MessagingException | UnsupportedEncodingException exception) {
+                message.failedAttempt(exception.getMessage(), false);
+                log.error("Mail {} to {} could not be built", message.getId(), message.getTo(), exception);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+            pending.forEach(MailMessage::sent);
+        } catch (MailSendException exception) {
+            Map<Object, Exception> failed = exception.getFailedMessages();
+            for (int i = 0; i < pending.size(); i++) {
+                Exception cause = failed.get(mimeMessages.get(i));
+                if (failed.isEmpty() || cause != null) {
+                    retryOrFail(pending.get(i), cause != null ? cause : exception);
+                } else {
+                    pending.get(i).sent();
+                }
+            }
+        } catch (MailException exception) {
+            pending.forEach(message -> retryOrFail(message, exception));
+        }
+    }
+
+    private void retryOrFail(MailMessage message, Exception cause) {
+
+        boolean retrying = message.getAttempts() + 1 < maxAttempts;
+        message.failedAttempt(cause.getMessage(), retrying);
+        if (!retrying) {
+            log.error("Mail {} to {} failed after {} attempts: {}",
+                    message.getId(), message.getTo(), message.getAttempts(), cause.getMessage());
+            return;
+        }
+
+        long delay = initialBackoffMillis << Math.min(message.getAttempts() - 1, 16);
+        log.warn("Mail {} to {} failed, retrying in {} ms: {}", message.getId(), message.getTo(), delay, cause.getMessage());
+        retryScheduler.schedule(() -> {
+            message.requeued();
+            if (!queue.offer(message)) {
+                message.rejected("Mail queue is full");
+                log.warn("Mail queue is full, dropped retry of message {} to {}", message.getId(), message.getTo());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private MimeMessage toMimeMessage(MailMessage message) throws MessagingException, UnsupportedEncodingException {
+
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        messageHelper.setFrom(SENDER_ADDRESS, SENDER_NAME);
+        messageHelper.setTo(message.getTo());
+        messageHelper.setSubject(message.getSubject());
+        messageHelper.setText(message.getText(), message.getHtml());
+        return mimeMessage;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.rent2gojavaproject.services.concretes;
 
+import com.example.rent2gojavaproject.config.CacheConfig;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
 import com.example.rent2gojavaproject.models.Model;
 import com.example.rent2gojavaproject.repositories.ModelRepository;
 import com.example.rent2gojavaproject.services.abstracts.ModelService;
@@ -15,24 +20,29 @@ import com.example.rent2gojavaproject.services.dtos.requests.modelRequest.Update
 import com.example.rent2gojavaproject.services.dtos.responses.modelResponse.GetModelListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.modelResponse.GetModelResponse;
 import com.example.rent2gojavaproject.services.rules.ModelBusinessRules;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class ModelManager implements ModelService {
+
+    private static final Set<String> SORTABLE = Set.of("id", "name");
     private final ModelRepository modelRepository;
     private final ModelMapperService mapperService;
     private final ModelBusinessRules modelBusinessRules;
-    private final EntityManager entityManager;
+    private final KeysetPaginator paginator;
+    private final TableVersions tableVersions;
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MODELS, key = "'all'")
     public DataResult<List<GetModelListResponse>> getAllModels() {
 
         List<Model> models = modelRepository.findAll();
@@ -45,22 +55,20 @@ public class ModelManager implements ModelService {
     }
 
     @Override
-    public DataResult<Iterable<GetModelListResponse>> findAll(boolean isActive) {
-
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterModel");
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MODELS, key = "'active:' + #isActive + ':' + #pageRequest")
+    public DataResult<List<GetModelListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        filter.setParameter("isActive", isActive);
+        CursorPage<GetModelListResponse> page = this.paginator.findAll(this.modelRepository, Model.class,
+                this.modelRepository.whereActive(isActive), pageRequest, SORTABLE,
+                model -> this.mapperService.forResponse().map(model, GetModelListResponse.class));
 
-        Iterable<GetModelListResponse> models = this.modelRepository.findAll().stream()
-                .map(model -> this.mapperService.forResponse().map(model, GetModelListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterModel");
-
-        return new SuccessDataResult<>(models, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MODELS, key = "#id")
     public DataResult<GetModelResponse> getById(int id) {
 
         Model model = this.modelRepository.findById(id).orElseThrow(() -> new NotFoundException("Couldn't find model id : " + id));
@@ -70,6 +78,7 @@ public class ModelManager implements ModelService {
     }
 
     @Override
+    @Transactional
     public Result addModel(AddModelRequest addModelRequest) {
 
         String editValue = modelBusinessRules.checkIfExistsByIdAndName(addModelRequest.getBrandId(), addModelRequest.getName());
@@ -79,10 +88,13 @@ public class ModelManager implements ModelService {
         model.setId(0);
         this.modelRepository.save(model);
 
+        this.tableVersions.changed(TableVersions.MODELS, TableVersions.CARS);
+
         return new SuccessResult(Message.ADD.getMessage());
     }
 
     @Override
+    @Transactional
     public Result updateModel(UpdateModelRequest updateModelRequest) {
 
         String editValue = modelBusinessRules.checkIfExistsByIdAndName(updateModelRequest
@@ -96,22 +108,28 @@ public class ModelManager implements ModelService {
 
         this.modelRepository.save(model);
 
+        this.tableVersions.changed(TableVersions.MODELS, TableVersions.CARS);
+
         return new SuccessResult(Message.UPDATE.getMessage());
     }
 
     @Override
+    @Transactional
     public Result deleteModel(int id) {
 
         Model model = this.modelRepository.findById(id).orElseThrow(() -> new NotFoundException("Couldn't find model id : " + id));
         modelBusinessRules.changeDeleteDate(model);
 
-        this.modelRepository.save(model);
+        this.modelRepository.saveAndFlush(model);
         this.modelRepository.delete(model);
 
+        this.tableVersions.changed(TableVersions.MODELS, TableVersions.CARS);
+
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(int id) {
         return this.modelRepository.existsById(id);
     }
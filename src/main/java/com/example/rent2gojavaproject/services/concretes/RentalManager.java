@@ -1,131 +1,228 @@
 package com.example.rent2gojavaproject.services.concretes;
 
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
+import com.example.rent2gojavaproject.core.utilities.concurrency.StripedLocks;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
 import com.example.rent2gojavaproject.models.Car;
-import com.example.rent2gojavaproject.models.Discount;
 import com.example.rent2gojavaproject.models.Rental;
 import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.repositories.DiscountRepository;
 import com.example.rent2gojavaproject.repositories.RentalRepository;
+import com.example.rent2gojavaproject.repositories.projections.CarDailyPrice;
+import com.example.rent2gojavaproject.repositories.projections.DiscountRate;
+import com.example.rent2gojavaproject.repositories.projections.RentalListProjection;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
 import com.example.rent2gojavaproject.services.abstracts.RentalService;
 import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.AddRentalRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.QuoteRentalItem;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.QuoteRentalsRequest;
 import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.UpdateRentalRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalQuoteResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalResponse;
+import com.example.rent2gojavaproject.services.rules.PricingEngine;
 import com.example.rent2gojavaproject.services.rules.RentalBusinessRules;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @AllArgsConstructor
 @Service
 public class RentalManager implements RentalService {
+
+    private static final Set<String> SORTABLE = Set.of("id", "startDate", "endDate", "totalPrice");
+    private static final RentalListProjection LIST_PROJECTION = new RentalListProjection();
+    private static final int CAR_LOCK_STRIPES = 64;
+
     private final RentalRepository rentalRepository;
     private final ModelMapperService mapperService;
     private final CarRepository carRepository;
+    private final DiscountRepository discountRepository;
     private final RentalBusinessRules businessRules;
-    private EntityManager entityManager;
+    private final KeysetPaginator paginator;
+    private final CarAvailabilityService carAvailabilityService;
+    private final TransactionTemplate transactionTemplate;
+    private final TableVersions tableVersions;
+    private final StripedLocks carLocks = new StripedLocks(CAR_LOCK_STRIPES);
 
 
     @Override
-    public DataResult<List<GetRentalListResponse>> getAllRentals() {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetRentalListResponse>> getAllRentals(CursorPageRequest pageRequest) {
 
-        List<Rental> rentals = this.rentalRepository.findAll();
-        List<GetRentalListResponse> responses = rentals.stream()
-                .map(rental -> this.mapperService.forResponse()
-                        .map(rental, GetRentalListResponse.class))
-                .collect(Collectors.toList());
+        CursorPage<GetRentalListResponse> page = this.paginator.findAll(Rental.class, LIST_PROJECTION, pageRequest, SORTABLE);
 
-        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
-    public DataResult<Iterable<GetRentalListResponse>> findAll(boolean isActive) {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetRentalListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterRental");
+        CursorPage<GetRentalListResponse> page = this.paginator.findAll(Rental.class, this.rentalRepository.whereActive(isActive),
+                LIST_PROJECTION, pageRequest, SORTABLE);
 
-        filter.setParameter("isActive", isActive);
-
-        Iterable<GetRentalListResponse> rentals = this.rentalRepository.findAll()
-                .stream().map(rental -> this.mapperService.forResponse()
-                        .map(rental, GetRentalListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterRental");
-
-        return new SuccessDataResult<>(rentals, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetRentalResponse> getById(int id) {
 
-        Rental rental = this.rentalRepository.findById(id)
+        Rental rental = this.rentalRepository.findDetailById(id)
                 .orElseThrow(() -> new NotFoundException("Couldn't find rental id : " + id));
         GetRentalResponse response = this.mapperService.forResponse().map(rental, GetRentalResponse.class);
 
         return new SuccessDataResult<>(response, Message.GET.getMessage());
     }
 
+    /**
+     * Bookings of one car are serialized twice: by an in-process lock stripe, so concurrent
+     * requests don't pile up on database connections, and by a row lock on the car taken by the
+     * admission query, which keeps the overlap check correct across application instances.
+     */
     @Override
     public Result addRental(AddRentalRequest addRentalRequest) {
-        Car car = carRepository.findById(addRentalRequest.getCarId()).orElseThrow();
-
-        String discountCode = addRentalRequest.getDiscountCode();
-        Discount defaultDiscount = businessRules.getDiscountByCodeOrDefault(discountCode);
 
-        businessRules.checkIfExistsById(addRentalRequest.getCarId(), addRentalRequest.getCustomerId(), addRentalRequest.getEmployeeId());
         businessRules.checkRentalPeriod(addRentalRequest.getStartDate(), addRentalRequest.getEndDate());
 
+        return carLocks.withLock(addRentalRequest.getCarId(),
+                () -> transactionTemplate.execute(status -> admitRental(addRentalRequest)));
+    }
+
+    private Result admitRental(AddRentalRequest addRentalRequest) {
+
+        Car car = businessRules.checkIfExistsForAdmission(rentalRepository.findAdmission(
+                addRentalRequest.getCarId(), addRentalRequest.getCustomerId(), addRentalRequest.getEmployeeId()));
+        businessRules.checkIfCarIsFree(car.getId(), addRentalRequest.getStartDate(), addRentalRequest.getEndDate());
+
+        DiscountRate discount = businessRules.getDiscountByCodeOrDefault(addRentalRequest.getDiscountCode());
         double totalPrice = businessRules.calculateTotalPrice(
                 addRentalRequest.getStartDate(), addRentalRequest.getEndDate(),
-                car.getDailyPrice(), defaultDiscount.getDiscountCode());
+                car.getDailyPrice(), discount);
 
         Rental rental = mapperService.forRequest().map(addRentalRequest, Rental.class);
-        rental.setDiscount(defaultDiscount);
+        rental.setCar(car);
+        rental.setDiscount(discountRepository.getReferenceById(discount.getId()));
         rental.setTotalPrice(totalPrice);
 
         rental.setStartKilometer(car.getKilometer());
         rentalRepository.save(rental);
+        TransactionCallbacks.afterCommit(() -> carAvailabilityService.addRental(rental));
 
         return new SuccessResult(Message.ADD.getMessage());
     }
 
     @Override
-    public Result updateRental(UpdateRentalRequest updateRentalRequest) {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetRentalQuoteResponse>> quoteRentals(QuoteRentalsRequest quoteRentalsRequest) {
+
+        List<QuoteRentalItem> items = quoteRentalsRequest.getQuotes();
+        Set<Integer> carIds = new HashSet<>();
+        for (QuoteRentalItem item : items) {
+            carIds.add(item.getCarId());
+        }
+        Map<Integer, Long> dailyCentsByCar = new HashMap<>();
+        for (CarDailyPrice price : carRepository.findDailyPrices(carIds)) {
+            dailyCentsByCar.put(price.getId(), PricingEngine.toCents(price.getDailyPrice()));
+        }
+
+        List<GetRentalQuoteResponse> responses = new ArrayList<>(items.size());
+        for (QuoteRentalItem item : items) {
+            GetRentalQuoteResponse response = new GetRentalQuoteResponse(item.getCarId(), item.getStartDate(),
+                    item.getEndDate(), null, 0, businessRules.checkQuotePeriod(item.getStartDate(), item.getEndDate()));
+            Long dailyCents = dailyCentsByCar.get(item.getCarId());
+            if (response.getError() == null && dailyCents == null) {
+                response.setError("Car ID doesn't exist !");
+            }
+            if (response.getError() == null) {
+                DiscountRate discount = businessRules.getDiscountByCodeOrDefault(item.getDiscountCode());
+                response.setDiscountCode(discount.getDiscountCode());
+                response.setTotalPriceCents(PricingEngine.totalCents(dailyCents,
+                        item.getEndDate().toEpochDay() - item.getStartDate().toEpochDay(),
+                        PricingEngine.toBasisPoints(discount.getPercentage())));
+            }
+            responses.add(response);
+        }
 
-        Car car = carRepository.findById(updateRentalRequest.getCarId()).orElseThrow();
+        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+    }
+
+    /**
+     * Runs under the stripes of both the rental's current car and the requested one, with the same
+     * row lock and overlap check as {@link #addRental}, so moving a rental can't double-book a car.
+     */
+    @Override
+    public Result updateRental(UpdateRentalRequest updateRentalRequest) {
 
-        this.rentalRepository.findById(updateRentalRequest.getId()).orElseThrow(() -> new NotFoundException("Couldn't find rental id"));
-        this.businessRules.checkIfExistsById(updateRentalRequest.getCarId(), updateRentalRequest.getCustomerId(), updateRentalRequest.getEmployeeId());
         this.businessRules.checkRentalPeriod(updateRentalRequest.getStartDate(), updateRentalRequest.getEndDate());
+        int previousCarId = this.rentalRepository.findCarIdById(updateRentalRequest.getId())
+                .orElseThrow(() -> new NotFoundException("Couldn't find rental id"));
+
+        return carLocks.withLocks(previousCarId, updateRentalRequest.getCarId(),
+                () -> transactionTemplate.execute(status -> reviseRental(updateRentalRequest, previousCarId)));
+    }
+
+    private Result reviseRental(UpdateRentalRequest updateRentalRequest, int previousCarId) {
+
+        Rental existingRental = this.rentalRepository.findById(updateRentalRequest.getId())
+                .orElseThrow(() -> new NotFoundException("Couldn't find rental id"));
+        if (existingRental.getCar().getId() != previousCarId) {
+            throw new BusinessRuleException("Rental was changed by another request, please retry.");
+        }
+
+        Car car = this.businessRules.checkIfExistsForAdmission(this.rentalRepository.findAdmission(
+                updateRentalRequest.getCarId(), updateRentalRequest.getCustomerId(), updateRentalRequest.getEmployeeId()));
+        if (updateRentalRequest.isActive()) {
+            LocalDate until = updateRentalRequest.getReturnDate() != null
+                    ? updateRentalRequest.getReturnDate() : updateRentalRequest.getEndDate();
+            this.businessRules.checkIfCarIsFree(car.getId(), updateRentalRequest.getStartDate(), until, updateRentalRequest.getId());
+        }
         this.businessRules.checkIfKilometer(car.getKilometer(), updateRentalRequest.getEndKilometer());
 
         Rental rental = this.mapperService.forRequest().map(updateRentalRequest, Rental.class);
+        rental.setStartKilometer(existingRental.getStartKilometer());
+        rental.setTotalPrice(existingRental.getTotalPrice());
+        rental.setDiscount(existingRental.getDiscount());
         car.setKilometer(rental.getEndKilometer());
         this.rentalRepository.save(rental);
+        TransactionCallbacks.afterCommit(() -> this.carAvailabilityService.addRental(rental));
+
+        this.tableVersions.changed(TableVersions.CARS);
 
         return new SuccessResult(Message.UPDATE.getMessage());
     }
 
     @Override
+    @Transactional
     public Result deleteRental(int id) {
 
         Rental rental = this.rentalRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found"));
         rental.setDeletedAt(LocalDate.now());
 
-        this.rentalRepository.save(rental);
+        this.rentalRepository.saveAndFlush(rental);
         this.rentalRepository.delete(rental);
+        TransactionCallbacks.afterCommit(() -> this.carAvailabilityService.removeRental(id));
 
         return new SuccessResult(Message.DELETE.getMessage());
     }
@@ -0,0 +1,45 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
+import com.example.rent2gojavaproject.repositories.UserRepository;
+import com.example.rent2gojavaproject.services.abstracts.TokenVersionService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * Current token version of every recently seen user. A token is only accepted while it carries
+ * the version stored on its user, so bumping the version revokes every token issued before.
+ * Entries expire after a minute, which bounds how long another node can miss a revocation.
+ */
+@Service
+public class TokenVersionManager implements TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final LoadingCache<Integer, Integer> versions;
+
+    public TokenVersionManager(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .build(userId -> this.userRepository.findActiveTokenVersionById(userId).orElse(NO_VERSION));
+    }
+
+    @Override
+    public int getCurrentVersion(int userId) {
+        return this.versions.get(userId);
+    }
+
+    @Override
+    @Transactional
+    public void revoke(int userId) {
+        this.userRepository.incrementTokenVersion(userId);
+        this.versions.invalidate(userId);
+        // a reload before the commit would cache the old version again
+        TransactionCallbacks.afterCompletion(() -> this.versions.invalidate(userId));
+    }
+}
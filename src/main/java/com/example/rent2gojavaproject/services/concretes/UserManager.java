@@ -1,83 +1,82 @@
 package com.example.rent2gojavaproject.services.concretes;
 
+import com.example.rent2gojavaproject.config.CacheConfig;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
 import com.example.rent2gojavaproject.core.token.VerificationToken;
 import com.example.rent2gojavaproject.core.utilities.alerts.Message;
 import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPage;
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.paging.KeysetPaginator;
 import com.example.rent2gojavaproject.core.utilities.results.DataResult;
 import com.example.rent2gojavaproject.core.utilities.results.Result;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessDataResult;
 import com.example.rent2gojavaproject.core.utilities.results.SuccessResult;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
 import com.example.rent2gojavaproject.models.User;
 import com.example.rent2gojavaproject.repositories.UserRepository;
 import com.example.rent2gojavaproject.repositories.VerificationTokenRepository;
+import com.example.rent2gojavaproject.services.UserRegistrationDetailsService;
+import com.example.rent2gojavaproject.services.abstracts.TokenVersionService;
 import com.example.rent2gojavaproject.services.abstracts.UserService;
 import com.example.rent2gojavaproject.services.dtos.requests.userRequest.UpdateUserRequest;
 import com.example.rent2gojavaproject.services.dtos.responses.userResponse.GetUserListResponse;
 import com.example.rent2gojavaproject.services.dtos.responses.userResponse.GetUserResponse;
 import com.example.rent2gojavaproject.services.rules.UserBusinessRules;
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.hibernate.Filter;
-import org.hibernate.Session;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
 public class UserManager implements UserService {
+
+    private static final Set<String> SORTABLE = Set.of("id", "name", "surname", "email");
+
     private final UserRepository userRepository;
     private ModelMapperService mapperService;
-    private EntityManager entityManager;
+    private KeysetPaginator paginator;
     private UserBusinessRules businessRules;
     private final VerificationTokenRepository tokenRepository;
+    private final TokenVersionService tokenVersionService;
+    private final UserRegistrationDetailsService userDetailsService;
+    private final CacheManager cacheManager;
 
     public UserDetailsService userDetailsService() {
-        return new UserDetailsService() {
-            @Override
-            public UserDetails loadUserByUsername(String username) {
-                return userRepository.findByEmail(username)
-                        .orElseThrow(() -> new NotFoundException("User " + username));
-            }
-        };
+        return userDetailsService;
     }
 
     @Override
-    public DataResult<List<GetUserListResponse>> getAllUsers() {
+    @Transactional(readOnly = true)
+    public DataResult<List<GetUserListResponse>> getAllUsers(CursorPageRequest pageRequest) {
 
-        List<User> users = this.userRepository.findAll();
-        List<GetUserListResponse> responses = users.stream().map(user -> this.mapperService
-                        .forResponse().map(user, GetUserListResponse.class))
-                .collect(Collectors.toList());
+        CursorPage<GetUserListResponse> page = this.paginator.findAll(this.userRepository, User.class, pageRequest, SORTABLE,
+                user -> this.mapperService.forResponse().map(user, GetUserListResponse.class));
 
-
-        return new SuccessDataResult<>(responses, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
-    public DataResult<Iterable<GetUserListResponse>> findAll(boolean isActive) {
-
-        Session session = entityManager.unwrap(Session.class);
-        Filter filter = session.enableFilter("isActiveFilterUser");
+    @Transactional(readOnly = true)
+    public DataResult<List<GetUserListResponse>> findAll(boolean isActive, CursorPageRequest pageRequest) {
 
-        filter.setParameter("isActive", isActive);
+        CursorPage<GetUserListResponse> page = this.paginator.findAll(this.userRepository, User.class,
+                this.userRepository.whereActive(isActive), pageRequest, SORTABLE,
+                user -> this.mapperService.forResponse().map(user, GetUserListResponse.class));
 
-        Iterable<GetUserListResponse> users = this.userRepository.findAll()
-                .stream().map(user -> this.mapperService.forResponse()
-                        .map(user, GetUserListResponse.class))
-                .collect(Collectors.toList());
-        session.disableFilter("isActiveFilterUser");
-
-        return new SuccessDataResult<>(users, Message.GET_ALL.getMessage());
+        return new SuccessDataResult<>(page.getContent(), Message.GET_ALL.getMessage(), page.getNext());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetUserResponse> getById(int id) {
 
         User user = this.userRepository.findById(id).orElseThrow(() -> new NotFoundException("Couldn't find user id: " + id));
@@ -87,6 +86,7 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional
     public User addUser(User user) {
 
         businessRules.checkIfExistsByEmail(user.getEmail());
@@ -98,31 +98,47 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional
     public Result updateUser(UpdateUserRequest updateUserRequest) {
 
-        this.userRepository.findById(updateUserRequest.getId()).orElseThrow(() -> new NotFoundException("Couldn't find user id"));
-
-        User user = this.mapperService.forRequest().map(updateUserRequest, User.class);
-
-        user.setUpdatedAt(LocalDate.now());
-        this.userRepository.save(user);
+        User existingUser = this.userRepository.findById(updateUserRequest.getId()).orElseThrow(() -> new NotFoundException("Couldn't find user id"));
+
+        String previousEmail = existingUser.getEmail();
+        boolean emailChanged = !previousEmail.equals(updateUserRequest.getEmail());
+
+        existingUser.setName(updateUserRequest.getName());
+        existingUser.setSurname(updateUserRequest.getSurname());
+        existingUser.setPhoneNumber(updateUserRequest.getPhoneNumber());
+        existingUser.setEmail(updateUserRequest.getEmail());
+        existingUser.setImageUrl(updateUserRequest.getImageUrl());
+        existingUser.setUpdatedAt(LocalDate.now());
+        this.userRepository.save(existingUser);
+        evictUserDetails(previousEmail);
+        evictUserDetails(existingUser.getEmail());
+        if (emailChanged) {
+            this.tokenVersionService.revoke(existingUser.getId());
+        }
 
         return new SuccessResult(Message.UPDATE.getMessage());
     }
 
     @Override
+    @Transactional
     public Result deleteUser(int id) {
 
         User user = this.userRepository.findById(id).orElseThrow(() -> new NotFoundException("id not found"));
         user.setDeletedAt(LocalDate.now());
 
-        this.userRepository.save(user);
+        this.userRepository.saveAndFlush(user);
         this.userRepository.delete(user);
+        this.tokenVersionService.revoke(id);
+        evictUserDetails(user.getEmail());
 
         return new SuccessResult(Message.DELETE.getMessage());
     }
 
     @Override
+    @Transactional
     public void saveUserVerificationToken(User theUser, String token) {
 
         var verificationToken = new VerificationToken(token, theUser);
@@ -130,6 +146,7 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional
     public String validateToken(String theToken) {
         VerificationToken token = tokenRepository.findByToken(theToken);
         if (token == null){
@@ -147,6 +164,16 @@ public class UserManager implements UserService {
 
         user.setEnabled(true);
         userRepository.save(user);
+        evictUserDetails(user.getEmail());
         return "valid";
     }
+
+    private void evictUserDetails(String email) {
+
+        Cache cache = this.cacheManager.getCache(CacheConfig.USER_DETAILS);
+        if (cache != null && email != null) {
+            cache.evict(email);
+            TransactionCallbacks.afterCompletion(() -> cache.evict(email));
+        }
+    }
 }
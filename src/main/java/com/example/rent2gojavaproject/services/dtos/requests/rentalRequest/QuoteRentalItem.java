@@ -0,0 +1,21 @@
+package com.example.rent2gojavaproject.services.dtos.requests.rentalRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class QuoteRentalItem {
+
+    private int carId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private String discountCode;
+}
@@ -0,0 +1,19 @@
+package com.example.rent2gojavaproject.services.dtos.requests.rentalRequest;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class QuoteRentalsRequest {
+
+    @NotEmpty(message = "At least one quote must be requested !!")
+    @Size(max = 5000, message = "At most 5000 quotes can be requested at once !!")
+    private List<QuoteRentalItem> quotes;
+}
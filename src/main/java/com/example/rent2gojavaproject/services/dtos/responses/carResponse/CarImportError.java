@@ -0,0 +1,17 @@
+package com.example.rent2gojavaproject.services.dtos.responses.carResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CarImportError {
+
+    private int row;
+
+    private String plate;
+
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.example.rent2gojavaproject.services.dtos.responses.carResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetCarImportResponse {
+
+    private int imported;
+
+    private int failed;
+
+    private List<CarImportError> errors;
+}
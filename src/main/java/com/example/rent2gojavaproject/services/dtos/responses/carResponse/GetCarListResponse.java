@@ -24,6 +24,8 @@ public class GetCarListResponse {
 
     private String imageUrl;
 
+    private String thumbnailUrl;
+
     private GetModelResponse model;
 
     private String colorName;
@@ -23,6 +23,10 @@ public class GetCarResponse {
 
     private String imageUrl;
 
+    private String thumbnailUrl;
+
+    private ImageStatus imageStatus;
+
     private GetModelResponse model;
 
     private String colorName;
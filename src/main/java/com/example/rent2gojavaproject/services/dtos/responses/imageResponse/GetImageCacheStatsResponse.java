@@ -0,0 +1,29 @@
+package com.example.rent2gojavaproject.services.dtos.responses.imageResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetImageCacheStatsResponse {
+
+    private long budgetBytes;
+
+    private long usedBytes;
+
+    private boolean offHeap;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private double hitRate;
+
+    private long evictionCount;
+
+    private List<GetImageStatsResponse> images;
+}
@@ -0,0 +1,21 @@
+package com.example.rent2gojavaproject.services.dtos.responses.imageResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetImageStatsResponse {
+
+    private String contentHash;
+
+    private long size;
+
+    private long hits;
+
+    private long misses;
+
+    private boolean cached;
+}
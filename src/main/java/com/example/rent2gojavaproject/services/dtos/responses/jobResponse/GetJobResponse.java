@@ -0,0 +1,30 @@
+package com.example.rent2gojavaproject.services.dtos.responses.jobResponse;
+
+import com.example.rent2gojavaproject.models.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetJobResponse {
+
+    private long id;
+
+    private String type;
+
+    private JobStatus status;
+
+    private int attempts;
+
+    private LocalDateTime runAt;
+
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,19 @@
+package com.example.rent2gojavaproject.services.dtos.responses.jobResponse;
+
+import com.example.rent2gojavaproject.models.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetJobStatsResponse {
+
+    private Map<JobStatus, Long> statusCounts;
+
+    private List<GetJobTypeStatsResponse> types;
+}
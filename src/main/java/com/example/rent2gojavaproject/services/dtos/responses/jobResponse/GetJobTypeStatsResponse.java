@@ -0,0 +1,21 @@
+package com.example.rent2gojavaproject.services.dtos.responses.jobResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetJobTypeStatsResponse {
+
+    private String type;
+
+    private long succeeded;
+
+    private long retried;
+
+    private long deadLettered;
+
+    private double averageMillis;
+}
@@ -0,0 +1,27 @@
+package com.example.rent2gojavaproject.services.dtos.responses.rentalResponse;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class GetRentalQuoteResponse {
+
+    private int carId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private String discountCode;
+
+    private long totalPriceCents;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
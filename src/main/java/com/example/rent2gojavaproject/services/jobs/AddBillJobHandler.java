@@ -0,0 +1,35 @@
+package com.example.rent2gojavaproject.services.jobs;
+
+import com.example.rent2gojavaproject.core.utilities.jobs.JobHandler;
+import com.example.rent2gojavaproject.core.utilities.mappers.ModelMapperService;
+import com.example.rent2gojavaproject.models.Bill;
+import com.example.rent2gojavaproject.repositories.BillRepository;
+import com.example.rent2gojavaproject.services.dtos.requests.billRequest.AddBillRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AddBillJobHandler implements JobHandler<AddBillRequest> {
+
+    public static final String TYPE = "add-bill";
+
+    private final BillRepository billRepository;
+    private final ModelMapperService mapperService;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public Class<AddBillRequest> getPayloadType() {
+        return AddBillRequest.class;
+    }
+
+    @Override
+    public void handle(AddBillRequest addBillRequest) {
+        Bill bill = this.mapperService.forRequest().map(addBillRequest, Bill.class);
+        this.billRepository.save(bill);
+    }
+}
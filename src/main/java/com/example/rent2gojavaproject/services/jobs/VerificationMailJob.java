@@ -0,0 +1,19 @@
+package com.example.rent2gojavaproject.services.jobs;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VerificationMailJob {
+
+    private String email;
+
+    private String name;
+
+    private String surname;
+
+    private String url;
+}
@@ -0,0 +1,39 @@
+package com.example.rent2gojavaproject.services.jobs;
+
+import com.example.rent2gojavaproject.core.utilities.jobs.JobHandler;
+import com.example.rent2gojavaproject.core.utilities.mail.MailMessage;
+import com.example.rent2gojavaproject.core.utilities.mail.MailStatus;
+import com.example.rent2gojavaproject.services.abstracts.MailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands the mail to the delivery queue and returns, so MailManager is the only layer that retries
+ * a send. The job fails only when the queue turns the mail away, and is then tried again later.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationMailJobHandler implements JobHandler<VerificationMailJob> {
+
+    public static final String TYPE = "verification-mail";
+
+    private final MailService mailService;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public Class<VerificationMailJob> getPayloadType() {
+        return VerificationMailJob.class;
+    }
+
+    @Override
+    public void handle(VerificationMailJob job) {
+        MailMessage message = mailService.sendVerificationEmail(job.getEmail(), job.getName(), job.getSurname(), job.getUrl());
+        if (message.getStatus() == MailStatus.FAILED) {
+            throw new IllegalStateException("Verification mail to " + job.getEmail() + " was not queued: " + message.getLastError());
+        }
+    }
+}
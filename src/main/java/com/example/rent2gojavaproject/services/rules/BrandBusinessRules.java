@@ -1,9 +1,12 @@
 package com.example.rent2gojavaproject.services.rules;
 
 import com.example.rent2gojavaproject.core.exceptions.AlreadyExistsException;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
 import com.example.rent2gojavaproject.models.Brand;
-import com.example.rent2gojavaproject.models.Model;
 import com.example.rent2gojavaproject.repositories.BrandRepository;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.repositories.ModelRepository;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +18,9 @@ import java.util.List;
 public class BrandBusinessRules {
 
     private BrandRepository brandRepository;
+    private ModelRepository modelRepository;
+    private CarRepository carRepository;
+    private CarAvailabilityService carAvailabilityService;
 
     public String checkIfExistsByName(String name) {
 
@@ -29,25 +35,23 @@ public class BrandBusinessRules {
 
         brand.setActive(isActive);
 
-        List<Model> existingModels = brand.getModels();
-        if (existingModels != null) {
-            existingModels.forEach(model -> {
-                model.setActive(brand.isActive());
-                model.getCars().forEach(car -> car.setActive(model.isActive()));
-            });
-        }
+        LocalDate today = LocalDate.now();
+        List<Integer> carIds = this.carRepository.findIdsByBrandId(brand.getId(), !isActive);
+        this.modelRepository.updateActiveByBrandId(brand.getId(), isActive, today);
+        this.carRepository.updateActiveByBrandId(brand.getId(), isActive, today);
+        TransactionCallbacks.afterCommit(() -> carIds.forEach(isActive
+                ? this.carAvailabilityService::addCar
+                : this.carAvailabilityService::removeCar));
     }
 
     public void changeDeleteDate(Brand brand) {
 
         brand.setDeletedAt(LocalDate.now());
 
-        List<Model> existingModels = brand.getModels();
-
-        brand.getModels().forEach(model -> {
-            model.setDeletedAt(brand.getDeletedAt());
-            model.getCars().forEach(car -> car.setDeletedAt(model.getDeletedAt()));
-        });
+        List<Integer> carIds = this.carRepository.findIdsByBrandId(brand.getId(), true);
+        this.modelRepository.markDeletedByBrandId(brand.getId(), brand.getDeletedAt());
+        this.carRepository.markDeletedByBrandId(brand.getId(), brand.getDeletedAt());
+        TransactionCallbacks.afterCommit(() -> carIds.forEach(this.carAvailabilityService::removeCar));
     }
 
 }
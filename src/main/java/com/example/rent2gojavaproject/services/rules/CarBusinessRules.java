@@ -1,12 +1,20 @@
 package com.example.rent2gojavaproject.services.rules;
 
 import com.example.rent2gojavaproject.core.exceptions.AlreadyExistsException;
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
+import com.example.rent2gojavaproject.models.BodyType;
+import com.example.rent2gojavaproject.models.FuelType;
+import com.example.rent2gojavaproject.models.GearType;
 import com.example.rent2gojavaproject.repositories.CarRepository;
 import com.example.rent2gojavaproject.services.abstracts.ColorService;
 import com.example.rent2gojavaproject.services.abstracts.ModelService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDate;
+import java.util.Arrays;
 
 @Service
 @AllArgsConstructor
@@ -18,7 +26,7 @@ public class CarBusinessRules {
 
     public String plateUniqueness(String plate) {
 
-        String licensePlate = plate.replace(" ", "").toUpperCase();
+        String licensePlate = normalizePlate(plate);
         boolean result = this.carRepository.existsByPlate(licensePlate);
         if (result) {
             throw new AlreadyExistsException("Car Plate already exists! : " + plate);
@@ -27,9 +35,54 @@ public class CarBusinessRules {
         return licensePlate;
     }
 
+    public String normalizePlate(String plate) {
+        return plate.replace(" ", "").toUpperCase();
+    }
+
     public void updateCarMethod(int modelId, int colorId) {
         if (!(modelService.existsById(modelId) && colorService.existsById(colorId))) {
             throw new NotFoundException("Model or color does not exist");
         }
     }
+
+    public void checkCarTypes(String bodyType, String fuelType, String gearType) {
+        String violation = carTypeViolation(bodyType, fuelType, gearType);
+        if (violation != null) {
+            throw new BusinessRuleException(violation);
+        }
+    }
+
+    /**
+     * The body, fuel and gear type names must match the enum constants exactly. Returns the
+     * violated rule, or null.
+     */
+    public String carTypeViolation(String bodyType, String fuelType, String gearType) {
+        if (!isConstant(BodyType.class, bodyType)) {
+            return "Invalid body type : " + bodyType;
+        } else if (!isConstant(FuelType.class, fuelType)) {
+            return "Invalid fuel type : " + fuelType;
+        } else if (!isConstant(GearType.class, gearType)) {
+            return "Invalid gear type : " + gearType;
+        }
+        return null;
+    }
+
+    public void checkImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessRuleException("Car image is required");
+        }
+        if (file.getContentType() == null || !file.getContentType().startsWith("image/")) {
+            throw new BusinessRuleException("Car image must be an image file");
+        }
+    }
+
+    public void checkAvailabilityPeriod(LocalDate startDate, LocalDate endDate) {
+        if (!startDate.isBefore(endDate)) {
+            throw new BusinessRuleException("Start date must be before end date");
+        }
+    }
+
+    private static <E extends Enum<E>> boolean isConstant(Class<E> type, String name) {
+        return Arrays.stream(type.getEnumConstants()).anyMatch(constant -> constant.name().equals(name));
+    }
 }
@@ -2,10 +2,12 @@ package com.example.rent2gojavaproject.services.rules;
 
 import com.example.rent2gojavaproject.core.exceptions.AlreadyExistsException;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
-import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.core.utilities.transactions.TransactionCallbacks;
 import com.example.rent2gojavaproject.models.Model;
+import com.example.rent2gojavaproject.repositories.CarRepository;
 import com.example.rent2gojavaproject.repositories.ModelRepository;
 import com.example.rent2gojavaproject.services.abstracts.BrandService;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,6 +20,8 @@ public class ModelBusinessRules {
 
     private ModelRepository modelRepository;
     private BrandService brandService;
+    private CarRepository carRepository;
+    private CarAvailabilityService carAvailabilityService;
 
     public String checkIfExistsByIdAndName(int brandId, String name) {
 
@@ -35,27 +39,23 @@ public class ModelBusinessRules {
     }
 
     public void changeIsActive(Model model, boolean isActive) {
-        model.setActive(isActive);
-
-        List<Car> existingModels = model.getCars();
 
-        if (existingModels != null) {
-            existingModels.forEach(car -> {
-                car.setActive(model.isActive());
-                car.setDeletedAt(model.getUpdatedAt());
-            });
-        }
+        model.setActive(isActive);
 
+        List<Integer> carIds = this.carRepository.findIdsByModelId(model.getId(), !isActive);
+        this.carRepository.updateActiveByModelId(model.getId(), isActive, LocalDate.now());
+        TransactionCallbacks.afterCommit(() -> carIds.forEach(isActive
+                ? this.carAvailabilityService::addCar
+                : this.carAvailabilityService::removeCar));
     }
 
     public void changeDeleteDate(Model model) {
 
         model.setDeletedAt(LocalDate.now());
-        List<Car> existingModels = model.getCars();
-        model.getCars().forEach(car -> {
-            car.setDeletedAt(model.getDeletedAt());
-        });
-    }
 
+        List<Integer> carIds = this.carRepository.findIdsByModelId(model.getId(), true);
+        this.carRepository.markDeletedByModelId(model.getId(), model.getDeletedAt());
+        TransactionCallbacks.afterCommit(() -> carIds.forEach(this.carAvailabilityService::removeCar));
+    }
 
 }
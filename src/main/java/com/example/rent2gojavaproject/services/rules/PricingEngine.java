@@ -0,0 +1,42 @@
+package com.example.rent2gojavaproject.services.rules;
+
+/**
+ * Rental pricing in whole cents. Everything is primitive {@code long} arithmetic, so a quote
+ * costs no allocation and the same inputs always give the same cent, unlike the old
+ * {@code double} formula.
+ */
+public final class PricingEngine {
+
+    private static final long BASIS_POINTS = 10_000;
+
+    private PricingEngine() {
+    }
+
+    public static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    public static int toBasisPoints(double percentage) {
+        return (int) Math.round(percentage * 100);
+    }
+
+    public static double fromCents(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Daily price times rental days, minus the discount rounded half up to the cent.
+     * Never returns less than zero.
+     */
+    public static long totalCents(long dailyCents, long days, int discountBasisPoints) {
+
+        if (days <= 0 || dailyCents <= 0) {
+            return 0;
+        }
+
+        long gross = Math.multiplyExact(dailyCents, days);
+        long discount = (Math.multiplyExact(gross, (long) discountBasisPoints) + BASIS_POINTS / 2) / BASIS_POINTS;
+
+        return Math.max(0, gross - discount);
+    }
+}
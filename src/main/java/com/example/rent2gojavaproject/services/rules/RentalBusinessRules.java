@@ -2,7 +2,10 @@ package com.example.rent2gojavaproject.services.rules;
 
 import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
 import com.example.rent2gojavaproject.core.exceptions.NotFoundException;
-import com.example.rent2gojavaproject.models.Discount;
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.repositories.RentalRepository;
+import com.example.rent2gojavaproject.repositories.projections.DiscountRate;
+import com.example.rent2gojavaproject.repositories.projections.RentalAdmission;
 import com.example.rent2gojavaproject.services.abstracts.CarService;
 import com.example.rent2gojavaproject.services.abstracts.CustomerService;
 import com.example.rent2gojavaproject.services.abstracts.DiscountService;
@@ -11,16 +14,21 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 @AllArgsConstructor
 @Service
 public class RentalBusinessRules {
 
+    private static final String DEFAULT_DISCOUNT_CODE = "DEFAULT";
+    private static final int MAX_RENTAL_DAYS = 25;
+
     private CarService carService;
     private CustomerService customerService;
     private EmployeeService employeeService;
     private DiscountService discountService;
+    private RentalRepository rentalRepository;
 
     public void checkIfExistsById(int carId, int customerId, int employeeId) {
 
@@ -33,6 +41,31 @@ public class RentalBusinessRules {
         }
     }
 
+    public Car checkIfExistsForAdmission(Optional<RentalAdmission> admission) {
+
+        RentalAdmission found = admission.orElseThrow(() -> new NotFoundException("Car ID doesn't exist !"));
+        if (found.getCustomerCount() == 0) {
+            throw new NotFoundException("Customer ID doesn't exist !");
+        } else if (found.getEmployeeCount() == 0) {
+            throw new NotFoundException("Employee ID doesn't exist !");
+        }
+        return found.getCar();
+    }
+
+    public void checkIfCarIsFree(int carId, LocalDate startDate, LocalDate endDate) {
+
+        if (rentalRepository.existsOverlapping(carId, startDate, endDate)) {
+            throw new BusinessRuleException("Car is already rented for the selected dates.");
+        }
+    }
+
+    public void checkIfCarIsFree(int carId, LocalDate startDate, LocalDate endDate, int excludedRentalId) {
+
+        if (rentalRepository.existsOverlappingOther(carId, startDate, endDate, excludedRentalId)) {
+            throw new BusinessRuleException("Car is already rented for the selected dates.");
+        }
+    }
+
     public void checkIfKilometer(int kilometer, Integer endKilometer) {
 
         Integer newKilometer = Integer.valueOf(kilometer);
@@ -43,34 +76,54 @@ public class RentalBusinessRules {
 
     public void checkRentalPeriod(LocalDate startDate, LocalDate endDate) {
 
-        Period period = Period.between(startDate, endDate);
-        int rentalDays = period.getDays();
-        if (startDate.isAfter(endDate)) {
-            throw new BusinessRuleException("Start date must be before rental end date");
-        } else if (rentalDays > 25) {
-            throw new BusinessRuleException("Car can be rented for a maximum of 25 days.!");
+        String violation = periodViolation(startDate, endDate);
+        if (violation != null) {
+            throw new BusinessRuleException(violation);
         }
     }
 
-    public Discount getDiscountByCodeOrDefault(String discountCode) {
+    public DiscountRate getDiscountByCodeOrDefault(String discountCode) {
 
-        if (discountCode == null || discountCode.isEmpty()) {
-            return discountService.findByDiscountCode("DEFAULT");
+        DiscountRate selectedDiscount = discountService.findRateByCode(discountCode);
+        if (selectedDiscount != null) {
+            return selectedDiscount;
         }
 
-        Discount selectedDiscount = discountService.findByDiscountCode(discountCode);
-
-        return (selectedDiscount != null) ? selectedDiscount : discountService.findByDiscountCode("DEFAULT");
+        DiscountRate defaultDiscount = discountService.findRateByCode(DEFAULT_DISCOUNT_CODE);
+        if (defaultDiscount == null) {
+            throw new NotFoundException("Default discount doesn't exist !");
+        }
+        return defaultDiscount;
     }
 
-    public double calculateTotalPrice(LocalDate startDate, LocalDate endDate, double dailyPrice, String discountCode) {
+    public String checkQuotePeriod(LocalDate startDate, LocalDate endDate) {
 
-        Discount discount = getDiscountByCodeOrDefault(discountCode);
+        if (startDate == null || endDate == null) {
+            return "Start and end dates must be entered.";
+        }
+        return periodViolation(startDate, endDate);
+    }
+
+    public double calculateTotalPrice(LocalDate startDate, LocalDate endDate, double dailyPrice, DiscountRate discount) {
 
-        double totalDiscount = (discount.getPercentage() / 100) * dailyPrice * (endDate.toEpochDay() - startDate.toEpochDay());
-        double totalPrice = dailyPrice * (endDate.toEpochDay() - startDate.toEpochDay()) - totalDiscount;
+        long totalCents = PricingEngine.totalCents(PricingEngine.toCents(dailyPrice),
+                endDate.toEpochDay() - startDate.toEpochDay(), PricingEngine.toBasisPoints(discount.getPercentage()));
 
-        return (totalPrice < 0) ? 0 : totalPrice;
+        return PricingEngine.fromCents(totalCents);
     }
 
+    /**
+     * The one period rule shared by bookings and quotes, counted in whole days so that a month
+     * boundary inside the period is not lost. Returns the violated rule, or null.
+     */
+    private static String periodViolation(LocalDate startDate, LocalDate endDate) {
+
+        long rentalDays = ChronoUnit.DAYS.between(startDate, endDate);
+        if (rentalDays < 0) {
+            return "Start date must be before rental end date";
+        } else if (rentalDays > MAX_RENTAL_DAYS) {
+            return "Car can be rented for a maximum of 25 days.!";
+        }
+        return null;
+    }
 }
@@ -0,0 +1,52 @@
+-- Moves existing PostgreSQL databases from IDENTITY ids to the pooled sequences the entities now use.
+-- Run once before deploying. Every sequence steps by the entities' allocationSize (50) and is
+-- positioned past the table's highest id, so the first pool handed out cannot collide with an
+-- existing row. The old identity defaults stay on the columns and are simply no longer used.
+
+CREATE SEQUENCE IF NOT EXISTS bills_seq INCREMENT BY 50;
+SELECT setval('bills_seq', COALESCE((SELECT MAX(id) FROM bills), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS brands_seq INCREMENT BY 50;
+SELECT setval('brands_seq', COALESCE((SELECT MAX(id) FROM brands), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS cars_seq INCREMENT BY 50;
+SELECT setval('cars_seq', COALESCE((SELECT MAX(id) FROM cars), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS cities_seq INCREMENT BY 50;
+SELECT setval('cities_seq', COALESCE((SELECT MAX(id) FROM cities), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS colors_seq INCREMENT BY 50;
+SELECT setval('colors_seq', COALESCE((SELECT MAX(id) FROM colors), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS customers_seq INCREMENT BY 50;
+SELECT setval('customers_seq', COALESCE((SELECT MAX(id) FROM customers), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS discounts_seq INCREMENT BY 50;
+SELECT setval('discounts_seq', COALESCE((SELECT MAX(id) FROM discounts), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS districts_seq INCREMENT BY 50;
+SELECT setval('districts_seq', COALESCE((SELECT MAX(id) FROM districts), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS employees_seq INCREMENT BY 50;
+SELECT setval('employees_seq', COALESCE((SELECT MAX(id) FROM employees), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS images_seq INCREMENT BY 50;
+SELECT setval('images_seq', COALESCE((SELECT MAX(id) FROM images), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS jobs_seq INCREMENT BY 50;
+SELECT setval('jobs_seq', COALESCE((SELECT MAX(id) FROM jobs), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS models_seq INCREMENT BY 50;
+SELECT setval('models_seq', COALESCE((SELECT MAX(id) FROM models), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS policies_seq INCREMENT BY 50;
+SELECT setval('policies_seq', COALESCE((SELECT MAX(id) FROM policies), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS rentals_seq INCREMENT BY 50;
+SELECT setval('rentals_seq', COALESCE((SELECT MAX(id) FROM rentals), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50);
+
+CREATE SEQUENCE IF NOT EXISTS verification_token_seq INCREMENT BY 50;
+SELECT setval('verification_token_seq', COALESCE((SELECT MAX(id) FROM verification_token), 0) + 50);
@@ -0,0 +1,58 @@
+package com.example.rent2gojavaproject;
+
+import com.example.rent2gojavaproject.models.*;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Catalogue rows shared by the persistence tests. Callers run these inside their own transaction
+ * and adjust whatever their scenario depends on, such as the price or the kilometer of a car.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static Model persistModel(EntityManager entityManager, String brandName, String modelName) {
+
+        Brand brand = new Brand();
+        brand.setName(brandName);
+        entityManager.persist(brand);
+        Model model = new Model();
+        model.setName(modelName);
+        model.setBrand(brand);
+        entityManager.persist(model);
+        return model;
+    }
+
+    public static Color persistColor(EntityManager entityManager, String name) {
+
+        Color color = new Color();
+        color.setName(name);
+        entityManager.persist(color);
+        return color;
+    }
+
+    public static Car car(String plate, Model model, Color color) {
+
+        Car car = new Car();
+        car.setKilometer(1000);
+        car.setYear(2022);
+        car.setDailyPrice(400);
+        car.setPlate(plate);
+        car.setModel(model);
+        car.setColor(color);
+        car.setBodyType(BodyType.values()[0]);
+        car.setFuelType(FuelType.values()[0]);
+        car.setGearType(GearType.values()[0]);
+        car.setCylinderCount("4");
+        car.setEnginePower("120");
+        return car;
+    }
+
+    public static Car persistCar(EntityManager entityManager, String plate, Model model, Color color) {
+
+        Car car = car(plate, model, color);
+        entityManager.persist(car);
+        return car;
+    }
+}
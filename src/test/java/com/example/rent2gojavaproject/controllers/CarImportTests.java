@@ -0,0 +1,263 @@
+package com.example.rent2gojavaproject.controllers;
+
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.models.Color;
+import com.example.rent2gojavaproject.models.Model;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
+import com.example.rent2gojavaproject.services.abstracts.CarImportService;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarImportResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+@SpringBootTest
+@AutoConfigureMockMvc
+class CarImportTests {
+
+    private static final long UPLOAD_PAUSE_MILLIS = 1_000;
+    private static final String HEADER = "plate,modelId,colorId,kilometer,year,dailyPrice,bodyType,fuelType,gearType,cylinderCount,enginePower";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarAvailabilityService carAvailabilityService;
+
+    @Autowired
+    private CarImportService carImportService;
+
+    private int modelId;
+    private int colorId;
+
+    @BeforeEach
+    void setUp() {
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Model model = persistModel(this.entityManager, "Import Brand", "Import Model");
+            Color color = persistColor(this.entityManager, "Import Color");
+            this.modelId = model.getId();
+            this.colorId = color.getId();
+        });
+    }
+
+    @Test
+    void csvRowsAreImportedAndRejectedRowsReported() throws Exception {
+
+        String body = String.join("\n", HEADER,
+                row("34 imp 101", this.modelId, this.colorId, "2022", "SEDAN"),
+                row("34IMP102", this.modelId, this.colorId, "2023", "SUV"),
+                "",
+                row("34IMP101", this.modelId, this.colorId, "2022", "SEDAN"),
+                row("34IMP103", 999_999, this.colorId, "2022", "SEDAN"),
+                row("34IMP104", this.modelId, 999_999, "2022", "SEDAN"),
+                row("34IMP105", this.modelId, this.colorId, "1999", "SEDAN"),
+                row("34IMP106", this.modelId, this.colorId, "2022", "TRUCK"),
+                row("34IMP107", this.modelId, this.colorId, "twenty", "SEDAN"),
+                "34IMP108," + this.modelId);
+
+        this.mockMvc.perform(post("/api/cars/import").contentType("text/csv").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.failed").value(7))
+                .andExpect(jsonPath("$.data.errors[0].row").value(5))
+                .andExpect(jsonPath("$.data.errors[0].error").value("Car Plate already exists! : 34IMP101"))
+                .andExpect(jsonPath("$.data.errors[1].error").value("Model ID doesn't exist : 999999"))
+                .andExpect(jsonPath("$.data.errors[2].error").value("Color ID doesn't exist : 999999"))
+                .andExpect(jsonPath("$.data.errors[3].error").value("Year must be greater than or equal to 2005."))
+                .andExpect(jsonPath("$.data.errors[4].error").value("Invalid body type : TRUCK"))
+                .andExpect(jsonPath("$.data.errors[5].error").value("Invalid value for year"))
+                .andExpect(jsonPath("$.data.errors[6].row").value(11));
+
+        Car car = this.carRepository.findAll().stream().filter(found -> found.getPlate().equals("34IMP101")).findFirst().orElseThrow();
+        assertEquals(this.modelId, car.getModel().getId());
+        assertTrue(this.carAvailabilityService.isAvailable(car.getId(), LocalDate.now().plusDays(1), LocalDate.now().plusDays(2)));
+    }
+
+    @Test
+    void quotedCsvFieldsKeepCommasQuotesAndLineBreaks() throws Exception {
+
+        String body = String.join("\n", HEADER,
+                "\"34IMP301\"," + this.modelId + "," + this.colorId + ",1000,2022,500,SEDAN,GASOLINE,AUTOMATIC,4,\"1,6 \"\"TDI\"\"\"",
+                "34IMP302," + this.modelId + "," + this.colorId + ",1000,2022,500,SEDAN,GASOLINE,AUTOMATIC,4,\"120\nturbo\"",
+                row("34IMP303", this.modelId, this.colorId, "1999", "SEDAN"),
+                "34IMP304," + this.modelId + "," + this.colorId + ",1000,2022,500,SEDAN,GASOLINE,AUTOMATIC,4,\"open");
+
+        this.mockMvc.perform(post("/api/cars/import").contentType("text/csv").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.failed").value(2))
+                .andExpect(jsonPath("$.data.errors[0].row").value(5))
+                .andExpect(jsonPath("$.data.errors[1].row").value(6))
+                .andExpect(jsonPath("$.data.errors[1].error").value("Unterminated quoted field"));
+
+        List<Car> cars = this.carRepository.findAll();
+        assertTrue(cars.stream().anyMatch(car -> car.getPlate().equals("34IMP301") && car.getEnginePower().equals("1,6 \"TDI\"")));
+        assertTrue(cars.stream().anyMatch(car -> car.getPlate().equals("34IMP302") && car.getEnginePower().equals("120\nturbo")));
+    }
+
+    @Test
+    void reportedErrorsAreCappedButAllCounted() throws Exception {
+
+        StringBuilder body = new StringBuilder(HEADER);
+        for (int i = 0; i < 150; i++) {
+            body.append('\n').append(row("34CAP" + i, this.modelId, this.colorId, "1999", "SEDAN"));
+        }
+
+        this.mockMvc.perform(post("/api/cars/import").contentType("text/csv").content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(0))
+                .andExpect(jsonPath("$.data.failed").value(150))
+                .andExpect(jsonPath("$.data.errors.length()").value(100));
+    }
+
+    @Test
+    void ndjsonRowsAreImportedAcrossChunks() throws Exception {
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1_200; i++) {
+            body.append("{\"plate\":\"35NDJ").append(1000 + i).append("\",\"modelId\":").append(this.modelId)
+                    .append(",\"colorId\":").append(this.colorId)
+                    .append(",\"kilometer\":10,\"year\":2021,\"dailyPrice\":450,\"bodyType\":\"COUPE\",")
+                    .append("\"fuelType\":\"DIESEL\",\"gearType\":\"MANUAL\",\"cylinderCount\":\"4\",\"enginePower\":\"110\"}\n");
+        }
+        body.append("{not json}\n");
+
+        this.mockMvc.perform(post("/api/cars/import").contentType(MediaType.APPLICATION_NDJSON).content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(1_200))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.errors[0].row").value(1_201))
+                .andExpect(jsonPath("$.data.errors[0].error").value("Malformed row"));
+    }
+
+    /**
+     * Feeds three chunks with a pause between them, like a slow upload, and records how long each
+     * pool connection is checked out and how much this thread allocates for the whole import.
+     */
+    @Test
+    void importHoldsAConnectionForOneChunkAtATime() throws Exception {
+
+        PipedOutputStream upload = new PipedOutputStream();
+        PipedInputStream body = new PipedInputStream(upload, 64 * 1024);
+        Thread client = new Thread(() -> {
+            try (upload) {
+                upload.write((HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+                for (int chunk = 0; chunk < 3; chunk++) {
+                    if (chunk > 0) {
+                        TimeUnit.MILLISECONDS.sleep(UPLOAD_PAUSE_MILLIS);
+                    }
+                    StringBuilder rows = new StringBuilder();
+                    for (int i = 0; i < 1_000; i++) {
+                        rows.append(row("36HLD" + (1000 + chunk * 1_000 + i), this.modelId, this.colorId, "2022", "SEDAN")).append('\n');
+                    }
+                    upload.write(rows.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException | InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+
+        ConnectionUsage.reset();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        client.start();
+
+        GetCarImportResponse response = this.carImportService.importCars(body, MediaType.parseMediaType("text/csv")).getData();
+        client.join();
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        log.info("import: {} rows in {} ms, {} connection checkouts held {} ms at most, {} KB allocated",
+                response.getImported(), elapsedMillis, ConnectionUsage.CHECKOUTS.sum(), ConnectionUsage.LONGEST.get(),
+                allocated / 1024);
+        assertEquals(3_000, response.getImported());
+        assertTrue(ConnectionUsage.LONGEST.get() < UPLOAD_PAUSE_MILLIS,
+                "a connection was held for " + ConnectionUsage.LONGEST.get() + " ms");
+    }
+
+    @Test
+    void csvWithoutRequiredColumnsIsRejected() throws Exception {
+
+        this.mockMvc.perform(post("/api/cars/import").contentType("text/csv").content("plate,modelId\n34IMP200,1"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @TestConfiguration
+    static class ConnectionUsage {
+
+        static final LongAdder CHECKOUTS = new LongAdder();
+        static final AtomicLong LONGEST = new AtomicLong();
+
+        static void reset() {
+            CHECKOUTS.reset();
+            LONGEST.set(0);
+        }
+
+        @Bean
+        static BeanPostProcessor connectionUsageTracker() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof HikariDataSource dataSource) {
+                        dataSource.setMetricsTrackerFactory((poolName, poolStats) -> new IMetricsTracker() {
+                            @Override
+                            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                                CHECKOUTS.increment();
+                                LONGEST.accumulateAndGet(elapsedBorrowedMillis, Math::max);
+                            }
+                        });
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static String row(String plate, int modelId, int colorId, String year, String bodyType) {
+        return String.join(",", plate, String.valueOf(modelId), String.valueOf(colorId), "1000", year, "500",
+                bodyType, "GASOLINE", "AUTOMATIC", "4", "120");
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.rent2gojavaproject.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CarsControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void availableCarsAreListedForAValidPeriod() throws Exception {
+
+        this.mockMvc.perform(get("/api/cars/available").param("start", "2030-01-10").param("end", "2030-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isArray());
+    }
+
+    @Test
+    void availableCarsRejectMissingOrMalformedDates() throws Exception {
+
+        this.mockMvc.perform(get("/api/cars/available").param("start", "2030-01-10"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/cars/available").param("start", "10.01.2030").param("end", "2030-01-12"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void availableCarsRejectAnEmptyOrReversedPeriod() throws Exception {
+
+        this.mockMvc.perform(get("/api/cars/available").param("start", "2030-01-10").param("end", "2030-01-10"))
+                .andExpect(status().isUnprocessableEntity());
+        this.mockMvc.perform(get("/api/cars/available").param("start", "2030-01-12").param("end", "2030-01-10"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+}
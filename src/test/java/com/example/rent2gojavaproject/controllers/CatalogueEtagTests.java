@@ -0,0 +1,198 @@
+package com.example.rent2gojavaproject.controllers;
+
+import com.example.rent2gojavaproject.core.utilities.versioning.TableVersions;
+import com.example.rent2gojavaproject.models.*;
+import com.example.rent2gojavaproject.repositories.TableVersionRepository;
+import com.example.rent2gojavaproject.services.abstracts.BrandService;
+import com.example.rent2gojavaproject.services.abstracts.ColorService;
+import com.example.rent2gojavaproject.services.abstracts.RentalService;
+import com.example.rent2gojavaproject.services.dtos.requests.brandRequest.AddBrandRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.colorRequest.AddColorRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.UpdateRentalRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.rent2gojavaproject.TestFixtures.car;
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CatalogueEtagTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ColorService colorService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TableVersionRepository tableVersionRepository;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Test
+    void unchangedListIsAnsweredWithoutTouchingTheDatabase() throws Exception {
+
+        this.colorService.addColor(new AddColorRequest("Etagteal"));
+        String etag = etagOf("/api/colors/getall");
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        this.mockMvc.perform(get("/api/colors/getall").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        this.colorService.addColor(new AddColorRequest("Etagamber"));
+        this.mockMvc.perform(get("/api/colors/getall").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("etagamber")));
+    }
+
+    @Test
+    void writeOnAnotherNodeIsPickedUpOnRefresh() throws Exception {
+
+        String etag = etagOf("/api/colors/getall");
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            persistColor(this.entityManager, "etagviolet");
+            this.tableVersionRepository.increment(List.of(TableVersions.COLORS));
+        });
+        this.mockMvc.perform(get("/api/colors/getall").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        this.tableVersions.refresh();
+        this.mockMvc.perform(get("/api/colors/getall").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("etagviolet")));
+    }
+
+    @Test
+    void brandChangesInvalidateDependentLists() throws Exception {
+
+        String brands = etagOf("/api/brands/getall");
+        String models = etagOf("/api/models/getall");
+        String cars = etagOf("/api/cars/getall");
+        String colors = etagOf("/api/colors/getall");
+
+        this.brandService.addBrand(new AddBrandRequest("Etagbrand"));
+
+        assertNotEquals(brands, etagOf("/api/brands/getall"));
+        assertNotEquals(models, etagOf("/api/models/getall"));
+        assertNotEquals(cars, etagOf("/api/cars/getall"));
+        assertEquals(colors, etagOf("/api/colors/getall"));
+    }
+
+    @Test
+    void returnedRentalInvalidatesTheCarList() throws Exception {
+
+        Rental rental = this.transactionTemplate.execute(status -> persistRental());
+        String cars = etagOf("/api/cars/getall");
+
+        this.rentalService.updateRental(new UpdateRentalRequest(rental.getId(), rental.getStartDate(), rental.getEndDate(),
+                rental.getEndDate(), 5400, rental.getCar().getId(), rental.getCustomer().getId(),
+                rental.getEmployee().getId(), true));
+
+        this.mockMvc.perform(get("/api/cars/getall").header(HttpHeaders.IF_NONE_MATCH, cars))
+                .andExpect(status().isOk());
+        assertEquals(5400, this.entityManager.find(Car.class, rental.getCar().getId()).getKilometer());
+    }
+
+    private Rental persistRental() {
+
+        Discount discount = new Discount();
+        discount.setDiscountCode("ETAG");
+        discount.setPercentage(0.0);
+        this.entityManager.persist(discount);
+        City city = new City();
+        city.setCityName("Etag City");
+        this.entityManager.persist(city);
+        District district = new District();
+        district.setDistrictName("Etag District");
+        district.setCity(city);
+        this.entityManager.persist(district);
+
+        Model model = persistModel(this.entityManager, "Etag Rental Brand", "Etag Model");
+        Color color = persistColor(this.entityManager, "Etag Color");
+        Car car = car("06ETG" + System.nanoTime() % 1000, model, color);
+        car.setKilometer(5000);
+        this.entityManager.persist(car);
+
+        User user = User.builder().name("Etag").surname("Renter").phoneNumber("5551112233")
+                .email("etag@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build();
+        this.entityManager.persist(user);
+        Customer customer = new Customer();
+        customer.setNationalityId("30000000000");
+        customer.setAddress("Etag Address");
+        customer.setUser(user);
+        customer.setCity(city);
+        customer.setDistrict(district);
+        this.entityManager.persist(customer);
+        Employee employee = new Employee();
+        employee.setSalary(20000);
+        employee.setAddress("Etag Office");
+        employee.setUser(user);
+        employee.setCity(city);
+        employee.setDistrict(district);
+        this.entityManager.persist(employee);
+
+        Rental rental = new Rental();
+        rental.setStartDate(LocalDate.now().minusDays(3));
+        rental.setEndDate(LocalDate.now());
+        rental.setStartKilometer(car.getKilometer());
+        rental.setTotalPrice(1200);
+        rental.setCar(car);
+        rental.setCustomer(customer);
+        rental.setEmployee(employee);
+        rental.setDiscount(discount);
+        this.entityManager.persist(rental);
+        return rental;
+    }
+
+    private String etagOf(String url) throws Exception {
+
+        String etag = this.mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+}
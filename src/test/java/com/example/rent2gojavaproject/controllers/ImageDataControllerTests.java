@@ -0,0 +1,226 @@
+package com.example.rent2gojavaproject.controllers;
+
+import com.example.rent2gojavaproject.core.utilities.storage.ImageBytesCache;
+import com.example.rent2gojavaproject.models.ImageData;
+import com.example.rent2gojavaproject.repositories.ImageDataRepository;
+import com.example.rent2gojavaproject.services.abstracts.ImageDataService;
+import com.example.rent2gojavaproject.services.dtos.responses.imageResponse.GetImageStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImageDataControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageDataRepository imageDataRepository;
+
+    @Autowired
+    private ImageDataService imageDataService;
+
+    @Test
+    void imagesAreServedFromTheStoreWithValidatorsAndRanges() throws Exception {
+
+        byte[] image = new byte[10_000];
+        Arrays.fill(image, (byte) 7);
+        image[0] = 1;
+        String hash = sha256(image);
+        String etag = "\"" + hash + "\"";
+
+        this.mockMvc.perform(multipart("/api/imagedata/upload")
+                        .file(new MockMultipartFile("image", "served.png", "image/png", image)))
+                .andExpect(status().isOk());
+
+        this.mockMvc.perform(get("/api/imagedata/served.png"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(content().bytes(image));
+
+        this.mockMvc.perform(get("/api/imagedata/served.png").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        this.mockMvc.perform(get("/api/imagedata/blobs/" + hash))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+
+        MvcResult range = this.mockMvc.perform(get("/api/imagedata/blobs/" + hash).header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/10000"))
+                .andReturn();
+        assertArrayEquals(Arrays.copyOfRange(image, 0, 4), range.getResponse().getContentAsByteArray());
+    }
+
+    @Test
+    void smallerSizesAreServedOnceTheirDerivativesExist() throws Exception {
+
+        BufferedImage photo = new BufferedImage(800, 1000, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(photo, "png", png);
+
+        this.mockMvc.perform(multipart("/api/imagedata/upload")
+                        .file(new MockMultipartFile("image", "derived.png", "image/png", png.toByteArray())))
+                .andExpect(status().isOk());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (this.imageDataRepository.findByName("derived.png").orElseThrow().getThumbHash() == null) {
+            assertTrue(System.currentTimeMillis() < deadline, "Derivatives were not generated in time");
+            Thread.sleep(20);
+        }
+
+        byte[] thumb = this.mockMvc.perform(get("/api/imagedata/derived.png").param("size", "thumb"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andReturn().getResponse().getContentAsByteArray();
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(thumb));
+        assertEquals(128, thumbnail.getWidth());
+        assertEquals(160, thumbnail.getHeight());
+
+        this.mockMvc.perform(get("/api/imagedata/derived.png").param("size", "huge"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void legacyCompressedRowsMoveToTheStoreOnFirstRead() throws Exception {
+
+        byte[] image = "legacy image bytes".getBytes();
+        ImageData legacy = this.imageDataRepository.save(ImageData.builder()
+                .name("legacy.png").type("image/png").imageData(deflate(image)).build());
+
+        this.mockMvc.perform(get("/api/imagedata/legacy.png"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + sha256(image) + "\""))
+                .andExpect(content().bytes(image));
+
+        ImageData moved = this.imageDataRepository.findById(legacy.getId()).orElseThrow();
+        assertEquals(sha256(image), moved.getContentHash());
+        assertNull(moved.getImageData());
+    }
+
+    @Test
+    void repeatedReadsAreServedFromMemory() throws Exception {
+
+        byte[] image = "popular image bytes".getBytes();
+        String hash = sha256(image);
+        this.mockMvc.perform(multipart("/api/imagedata/upload")
+                        .file(new MockMultipartFile("image", "popular.png", "image/png", image)))
+                .andExpect(status().isOk());
+
+        for (int i = 0; i < 3; i++) {
+            this.mockMvc.perform(get("/api/imagedata/blobs/" + hash))
+                    .andExpect(status().isOk())
+                    .andExpect(content().bytes(image));
+        }
+
+        GetImageStatsResponse stats = this.imageDataService.getCacheStats().getData().getImages().stream()
+                .filter(entry -> entry.getContentHash().equals(hash)).findFirst().orElseThrow();
+        assertEquals(1, stats.getMisses());
+        assertEquals(2, stats.getHits());
+        assertEquals(image.length, stats.getSize());
+        assertTrue(stats.isCached());
+    }
+
+    @Test
+    void statsOutliveEvictedBytes() throws Exception {
+
+        ImageBytesCache cache = new ImageBytesCache(100, 100, false, 10);
+        Path dir = Files.createTempDirectory("image-cache");
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            files.add(Files.write(dir.resolve("image-" + i), new byte[40]));
+        }
+
+        for (int round = 0; round < 4; round++) {
+            for (int i = 0; i < files.size(); i++) {
+                cache.get("hash-" + i, files.get(i));
+                awaitEvictedDownTo(cache, 2);
+            }
+        }
+
+        Map<String, ImageBytesCache.ImageStats> stats = cache.perImage();
+        assertEquals(3, stats.size());
+        assertTrue(stats.values().stream().allMatch(image -> image.getHits().sum() + image.getMisses().sum() == 4));
+        assertTrue(stats.values().stream().anyMatch(image -> image.getMisses().sum() > 1));
+    }
+
+    @Test
+    void oversizeReadsCountAsMissesAndStatsStayBounded() throws Exception {
+
+        ImageBytesCache cache = new ImageBytesCache(100, 50, false, 10);
+        Path dir = Files.createTempDirectory("image-cache");
+        Path large = Files.write(dir.resolve("large"), new byte[60]);
+        cache.get("large", large);
+        cache.get("large", large);
+
+        ImageBytesCache.ImageStats stats = cache.perImage().get("large");
+        assertEquals(2, stats.getMisses().sum());
+        assertEquals(60, stats.getSize());
+        assertFalse(cache.isCached("large"));
+
+        for (int i = 0; i < 30; i++) {
+            cache.get("hash-" + i, Files.write(dir.resolve("image-" + i), new byte[10]));
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cache.perImage().size() > 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(cache.perImage().size() <= 10);
+    }
+
+    private static void awaitEvictedDownTo(ImageBytesCache cache, long cached) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cache.perImage().keySet().stream().filter(cache::isCached).count() > cached
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static byte[] deflate(byte[] content) throws Exception {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(output)) {
+            deflater.write(content);
+        }
+        return output.toByteArray();
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
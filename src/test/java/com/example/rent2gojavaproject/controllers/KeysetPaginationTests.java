@@ -0,0 +1,194 @@
+package com.example.rent2gojavaproject.controllers;
+
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.models.*;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
+import com.example.rent2gojavaproject.services.abstracts.UserService;
+import com.example.rent2gojavaproject.services.dtos.responses.userResponse.GetUserListResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.example.rent2gojavaproject.TestFixtures.car;
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class KeysetPaginationTests {
+
+    private static final int CARS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarAvailabilityService carAvailabilityService;
+
+    @Test
+    void pagingByARepeatedPriceVisitsEveryCarOnce() throws Exception {
+
+        this.transactionTemplate.executeWithoutResult(status -> persistCars("34PGR"));
+        long total = this.transactionTemplate.execute(status -> this.entityManager
+                .createQuery("select count(c) from Car c", Long.class).getSingleResult());
+
+        for (String direction : List.of("asc", "desc")) {
+            List<JsonNode> cars = new ArrayList<>();
+            String cursor = null;
+            do {
+                JsonNode page = getCars("dailyPrice", direction, cursor);
+                page.get("data").forEach(cars::add);
+                cursor = page.hasNonNull("next") ? page.get("next").asText() : null;
+            } while (cursor != null);
+
+            assertEquals(total, cars.size());
+            assertEquals(total, cars.stream().map(car -> car.get("id").asInt()).distinct().count());
+            int sign = direction.equals("asc") ? 1 : -1;
+            for (int i = 1; i < cars.size(); i++) {
+                JsonNode previous = cars.get(i - 1);
+                JsonNode current = cars.get(i);
+                int byPrice = Double.compare(current.get("dailyPrice").asDouble(), previous.get("dailyPrice").asDouble());
+                assertTrue(sign * byPrice > 0 || byPrice == 0
+                        && sign * Integer.compare(current.get("id").asInt(), previous.get("id").asInt()) > 0);
+            }
+        }
+    }
+
+    @Test
+    void availableCarsArePagedInIdOrder() throws Exception {
+
+        this.transactionTemplate.executeWithoutResult(status -> persistCars("34AVL"));
+        this.carRepository.findAllActiveIds().forEach(this.carAvailabilityService::addCar);
+        LocalDate start = LocalDate.of(2030, 1, 10);
+        LocalDate end = LocalDate.of(2030, 1, 12);
+        List<Integer> expected = this.carAvailabilityService.getAvailableCarIds(start, end, null, Integer.MAX_VALUE);
+
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/cars/available").param("start", start.toString()).param("end", end.toString())
+                    .param("size", "7");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = this.objectMapper.readTree(this.mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            assertTrue(page.get("data").size() <= 7);
+            page.get("data").forEach(car -> ids.add(car.get("id").asInt()));
+            cursor = page.hasNonNull("next") ? page.get("next").asText() : null;
+        } while (cursor != null);
+
+        assertTrue(expected.size() >= CARS);
+        assertEquals(expected, ids);
+        this.mockMvc.perform(get("/api/cars/available").param("start", start.toString()).param("end", end.toString())
+                        .param("sort", "dailyPrice"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void pagingByARepeatedNameVisitsEveryUserOnce() {
+
+        this.transactionTemplate.executeWithoutResult(status -> persistUsers());
+
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            DataResult<List<GetUserListResponse>> page = this.userService
+                    .getAllUsers(new CursorPageRequest(cursor, 4, "name", "asc"));
+            page.getData().stream().filter(user -> user.getName().equals("Pager")).map(GetUserListResponse::getId).forEach(ids::add);
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        assertEquals(15, ids.size());
+        assertEquals(15, new HashSet<>(ids).size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void malformedCursorsAndUnknownSortsAreBadRequests() throws Exception {
+
+        this.mockMvc.perform(get("/api/cars/getall").param("sort", "password"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/cars/getall").param("direction", "sideways"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/cars/getall").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest());
+        for (String json : List.of("null", "{}", "{\"sort\":\"id\",\"direction\":\"ASC\",\"keys\":{}}",
+                "{\"sort\":\"id\",\"direction\":\"ASC\",\"keys\":{\"id\":\"abc\"}}",
+                "{\"sort\":\"dailyPrice\",\"direction\":\"ASC\",\"keys\":{\"dailyPrice\":null,\"id\":1}}")) {
+            this.mockMvc.perform(get("/api/cars/getall").param("cursor", encode(json)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private JsonNode getCars(String sort, String direction, String cursor) throws Exception {
+
+        var request = get("/api/cars/getall").param("size", "7").param("sort", sort).param("direction", direction);
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        String body = this.mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return this.objectMapper.readTree(body);
+    }
+
+    private void persistCars(String platePrefix) {
+
+        Model model = persistModel(this.entityManager, "Pager Brand", "Pager Model");
+        Color color = persistColor(this.entityManager, "Pager Color");
+
+        for (int i = 0; i < CARS; i++) {
+            Car car = car(platePrefix + i, model, color);
+            car.setDailyPrice(100 * (i % 3 + 1));
+            this.entityManager.persist(car);
+        }
+    }
+
+    private void persistUsers() {
+
+        for (int i = 0; i < 15; i++) {
+            this.entityManager.persist(User.builder().name("Pager").surname("User " + i).phoneNumber("55599900" + i)
+                    .email("pager" + i + "@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build());
+        }
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
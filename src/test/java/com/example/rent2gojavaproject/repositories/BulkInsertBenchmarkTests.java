@@ -0,0 +1,164 @@
+package com.example.rent2gojavaproject.repositories;
+
+import com.example.rent2gojavaproject.models.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.example.rent2gojavaproject.TestFixtures.car;
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@SpringBootTest
+class BulkInsertBenchmarkTests {
+
+    private static final int ROWS = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Test
+    void carsRentalsAndBillsAreInsertedInBatches() {
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Model model = persistModel(this.entityManager, "Bulk Brand", "Bulk Model");
+            Color color = persistColor(this.entityManager, "Bulk Color");
+            Customer customer = persistCustomer();
+            Employee employee = new Employee();
+            employee.setSalary(20000);
+            employee.setAddress("Bulk Office");
+            employee.setUser(customer.getUser());
+            employee.setCity(customer.getCity());
+            employee.setDistrict(customer.getDistrict());
+            this.entityManager.persist(employee);
+            Discount discount = new Discount();
+            discount.setDiscountCode("BULK");
+            discount.setPercentage(0.0);
+            this.entityManager.persist(discount);
+            this.entityManager.flush();
+
+            List<Car> cars = new ArrayList<>();
+            measure("cars", () -> {
+                for (int i = 0; i < ROWS; i++) {
+                    Car car = car("BULK" + i, model, color);
+                    car.setKilometer(i);
+                    car.setYear(2023);
+                    car.setDailyPrice(500);
+                    cars.add(car);
+                }
+                return this.carRepository.saveAll(cars);
+            });
+            measure("rentals", () -> {
+                List<Rental> rentals = new ArrayList<>();
+                for (Car car : cars) {
+                    rentals.add(rental(car, customer, employee, discount));
+                }
+                return this.rentalRepository.saveAll(rentals);
+            });
+            measure("bills", () -> {
+                User user = this.entityManager.getReference(User.class, customer.getUser().getId());
+                List<Bill> bills = new ArrayList<>();
+                for (int i = 0; i < ROWS; i++) {
+                    bills.add(bill(i, user));
+                }
+                return this.billRepository.saveAll(bills);
+            });
+
+            status.setRollbackOnly();
+        });
+    }
+
+    private void measure(String table, Supplier<List<?>> insert) {
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+
+        insert.get();
+        this.entityManager.flush();
+
+        long elapsed = System.nanoTime() - start;
+        long statements = statistics.getPrepareStatementCount();
+        log.info("{}: {} rows in {} ms, {} statements", table, ROWS, elapsed / 1_000_000, statements);
+        assertTrue(statements <= 2 * ROWS / 50 + 2, table + " took " + statements + " statements");
+        this.entityManager.clear();
+    }
+
+    private Customer persistCustomer() {
+
+        City city = new City();
+        city.setCityName("Bulk City");
+        this.entityManager.persist(city);
+        District district = new District();
+        district.setDistrictName("Bulk District");
+        district.setCity(city);
+        this.entityManager.persist(district);
+
+        User user = User.builder().name("Bulk").surname("Insert").phoneNumber("5550001111")
+                .email("bulk@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build();
+        this.entityManager.persist(user);
+
+        Customer customer = new Customer();
+        customer.setNationalityId("20000000001");
+        customer.setAddress("Bulk Address");
+        customer.setUser(user);
+        customer.setCity(city);
+        customer.setDistrict(district);
+        this.entityManager.persist(customer);
+        return customer;
+    }
+
+    private Rental rental(Car car, Customer customer, Employee employee, Discount discount) {
+
+        Rental rental = new Rental();
+        rental.setStartDate(LocalDate.of(2024, 1, 1));
+        rental.setEndDate(LocalDate.of(2024, 1, 5));
+        rental.setStartKilometer(car.getKilometer());
+        rental.setTotalPrice(2000);
+        rental.setCar(car);
+        rental.setCustomer(customer);
+        rental.setEmployee(employee);
+        rental.setDiscount(discount);
+        return rental;
+    }
+
+    private Bill bill(int i, User user) {
+
+        Bill bill = new Bill();
+        bill.setNo("BULK-" + i);
+        bill.setRentalStartDate(LocalDate.of(2024, 1, 1));
+        bill.setRentalEndDate(LocalDate.of(2024, 1, 5));
+        bill.setTotalRentalDate((short) 4);
+        bill.setRentalPrice(2000);
+        bill.setUser(user);
+        return bill;
+    }
+}
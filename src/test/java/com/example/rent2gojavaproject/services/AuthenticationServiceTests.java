@@ -0,0 +1,128 @@
+package com.example.rent2gojavaproject.services;
+
+import com.example.rent2gojavaproject.models.Role;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthenticationServiceTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void signInVerifiesThePasswordOnce() throws Exception {
+
+        saveUser("once@rent2go.test", true);
+
+        signIn("once@rent2go.test")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+        verify(this.passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    @Test
+    void disabledUserIsRejected() throws Exception {
+
+        saveUser("disabled@rent2go.test", false);
+
+        signIn("disabled@rent2go.test")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.token").doesNotExist());
+    }
+
+    @Test
+    void saturatedHashingPoolAnswersTooManyRequests() throws Exception {
+
+        saveUser("busy@rent2go.test", true);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).when(this.passwordEncoder).matches(any(), any());
+
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(this.passwordHashingService, "executor");
+        int capacity = executor.getMaximumPoolSize() + executor.getQueue().remainingCapacity();
+        ExecutorService callers = Executors.newFixedThreadPool(capacity);
+        List<CompletableFuture<Boolean>> waiting = new ArrayList<>();
+        try {
+            for (int i = 0; i < capacity; i++) {
+                waiting.add(CompletableFuture.supplyAsync(() -> this.passwordHashingService.matches("secret", "hash"), callers));
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (executor.getQueue().remainingCapacity() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            signIn("busy@rent2go.test")
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        } finally {
+            release.countDown();
+        }
+        waiting.forEach(CompletableFuture::join);
+        callers.shutdown();
+        assertTrue(waiting.stream().noneMatch(CompletableFuture::isCompletedExceptionally));
+    }
+
+    private ResultActions signIn(String email) throws Exception {
+        return this.mockMvc.perform(post("/api/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"secret\"}"));
+    }
+
+    private void saveUser(String email, boolean enabled) {
+
+        User user = User.builder()
+                .name("Sign")
+                .surname("In")
+                .phoneNumber(Long.toString(System.nanoTime()))
+                .email(email)
+                .password(this.passwordEncoder.encode("secret"))
+                .role(Role.USER)
+                .isEnabled(enabled)
+                .createdAt(LocalDate.now())
+                .build();
+        this.userRepository.save(user);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.rent2gojavaproject.services;
+
+import com.example.rent2gojavaproject.core.token.JwtPrincipal;
+import com.example.rent2gojavaproject.models.Role;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.repositories.UserRepository;
+import com.example.rent2gojavaproject.services.abstracts.TokenVersionService;
+import com.example.rent2gojavaproject.services.abstracts.UserService;
+import com.example.rent2gojavaproject.services.dtos.requests.userRequest.UpdateUserRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class JwtServiceTests {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+
+        long suffix = System.nanoTime() % 1_000_000;
+        this.user = this.userRepository.save(User.builder().name("Token").surname("Holder").phoneNumber("5557" + suffix)
+                .email("token" + suffix + "@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build());
+    }
+
+    @Test
+    void authenticationTakesNoStatementsOnceWarm() {
+
+        String token = this.jwtService.generateToken(this.user);
+        assertTrue(this.jwtService.authenticate(token).isPresent());
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        JwtPrincipal principal = this.jwtService.authenticate(token).orElseThrow();
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(this.user.getEmail(), principal.getName());
+        assertEquals(this.user.getId(), principal.getUserId());
+        assertEquals("ROLE_USER", principal.getAuthorities().get(0).getAuthority());
+    }
+
+    @Test
+    void tokenVersionBumpRevokesAnAlreadyCachedToken() {
+
+        String token = this.jwtService.generateToken(this.user);
+        assertTrue(this.jwtService.authenticate(token).isPresent());
+        assertTrue(this.jwtService.authenticate(token).isPresent());
+
+        this.tokenVersionService.revoke(this.user.getId());
+
+        assertTrue(this.jwtService.authenticate(token).isEmpty());
+        User reloaded = this.userRepository.findById(this.user.getId()).orElseThrow();
+        assertEquals(this.user.getTokenVersion() + 1, reloaded.getTokenVersion());
+        assertTrue(this.jwtService.authenticate(this.jwtService.generateToken(reloaded)).isPresent());
+    }
+
+    @Test
+    void profileUpdateKeepsTheUserSignedIn() {
+
+        String token = this.jwtService.generateToken(this.user);
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setId(this.user.getId());
+        request.setName("Renamed");
+        request.setSurname(this.user.getSurname());
+        request.setPhoneNumber(this.user.getPhoneNumber());
+        request.setEmail(this.user.getEmail());
+        request.setActive(true);
+
+        this.userService.updateUser(request);
+
+        User reloaded = this.userRepository.findById(this.user.getId()).orElseThrow();
+        assertEquals("Renamed", reloaded.getName());
+        assertEquals("secret", reloaded.getPassword());
+        assertEquals(Role.USER, reloaded.getRole());
+        assertTrue(reloaded.isEnabled());
+        assertEquals(this.user.getTokenVersion(), reloaded.getTokenVersion());
+        assertTrue(this.jwtService.authenticate(token).isPresent());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+
+        String token = this.jwtService.generateToken(this.user);
+        assertTrue(this.jwtService.authenticate(token.substring(0, token.length() - 2)).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.rent2gojavaproject.services;
+
+import com.example.rent2gojavaproject.models.Role;
+import com.example.rent2gojavaproject.models.User;
+import com.example.rent2gojavaproject.services.abstracts.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class UserRegistrationDetailsServiceTests {
+
+    @Autowired
+    private UserRegistrationDetailsService userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void userDetailsAreLoadedOnceUntilTheUserChanges() {
+
+        User user = User.builder().name("Details").surname("Holder").phoneNumber("5558880000")
+                .email("details@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build();
+        this.entityManager.persist(user);
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertTrue(this.userDetailsService.loadUserByUsername(user.getEmail()).isEnabled());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertTrue(this.userDetailsService.loadUserByUsername(user.getEmail()).isEnabled());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        this.userService.deleteUser(user.getId());
+        this.entityManager.clear();
+        assertFalse(this.userDetailsService.loadUserByUsername(user.getEmail()).isEnabled());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.models.Car;
+import com.example.rent2gojavaproject.models.Rental;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.repositories.RentalRepository;
+import com.example.rent2gojavaproject.repositories.projections.RentalPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CarAvailabilityManagerTests {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+
+    private final CarRepository carRepository = mock(CarRepository.class);
+    private final RentalRepository rentalRepository = mock(RentalRepository.class);
+    private final CarAvailabilityManager availability = new CarAvailabilityManager(carRepository, rentalRepository);
+
+    @BeforeEach
+    void setUp() {
+
+        when(this.carRepository.findAllActiveIds()).thenReturn(List.of(1, 2));
+        when(this.rentalRepository.findAllActivePeriods()).thenReturn(List.of(period(10, 1, 0, 5, null)));
+        this.availability.rebuild();
+    }
+
+    @Test
+    void touchingPeriodsDoNotOverlap() {
+
+        assertTrue(this.availability.isAvailable(1, day(5), day(8)));
+        assertTrue(this.availability.isAvailable(1, day(-3), day(0)));
+        assertFalse(this.availability.isAvailable(1, day(4), day(6)));
+        assertFalse(this.availability.isAvailable(1, day(-1), day(1)));
+    }
+
+    @Test
+    void containedAndContainingPeriodsOverlap() {
+
+        assertFalse(this.availability.isAvailable(1, day(1), day(3)));
+        assertFalse(this.availability.isAvailable(1, day(-2), day(9)));
+        assertFalse(this.availability.isAvailable(1, day(0), day(5)));
+        assertEquals(List.of(2), this.availability.getAvailableCarIds(day(1), day(3), null, 10));
+    }
+
+    @Test
+    void searchesResumeAfterTheLastIdOfThePreviousPage() {
+
+        when(this.carRepository.findAllActiveIds()).thenReturn(List.of(5, 1, 4, 2, 3));
+        this.availability.rebuild();
+
+        assertEquals(List.of(2, 3), this.availability.getAvailableCarIds(day(1), day(3), null, 2));
+        assertEquals(List.of(4, 5), this.availability.getAvailableCarIds(day(1), day(3), 3, 2));
+        assertTrue(this.availability.getAvailableCarIds(day(1), day(3), 5, 2).isEmpty());
+    }
+
+    @Test
+    void longEarlierBookingStillBlocksLaterDays() {
+
+        this.availability.addRental(rental(11, 1, 20, 40, null));
+        this.availability.addRental(rental(12, 1, 21, 22, null));
+
+        assertFalse(this.availability.isAvailable(1, day(30), day(31)));
+        assertTrue(this.availability.isAvailable(1, day(40), day(41)));
+    }
+
+    @Test
+    void earlyReturnFreesTheRemainingDays() {
+
+        this.availability.addRental(rental(10, 1, 0, 5, day(2)));
+
+        assertTrue(this.availability.isAvailable(1, day(2), day(4)));
+        assertFalse(this.availability.isAvailable(1, day(1), day(3)));
+    }
+
+    @Test
+    void rebuildReplacesTheWholeIndex() {
+
+        this.availability.addRental(rental(11, 2, 0, 5, null));
+        when(this.carRepository.findAllActiveIds()).thenReturn(List.of());
+        when(this.rentalRepository.findAllActivePeriods()).thenReturn(List.of());
+        this.availability.rebuild();
+
+        assertTrue(this.availability.getAvailableCarIds(day(0), day(5), null, 10).isEmpty());
+        assertFalse(this.availability.isAvailable(1, day(20), day(21)));
+
+        when(this.carRepository.findAllActiveIds()).thenReturn(List.of(1, 2));
+        this.availability.rebuild();
+
+        assertEquals(List.of(1, 2), this.availability.getAvailableCarIds(day(0), day(5), null, 10));
+    }
+
+    private static LocalDate day(int offset) {
+        return DAY.plusDays(offset);
+    }
+
+    private static Rental rental(int id, int carId, int start, int end, LocalDate returnDate) {
+
+        Car car = new Car();
+        car.setId(carId);
+        Rental rental = new Rental();
+        rental.setId(id);
+        rental.setCar(car);
+        rental.setStartDate(day(start));
+        rental.setEndDate(day(end));
+        rental.setReturnDate(returnDate);
+        rental.setActive(true);
+        return rental;
+    }
+
+    private static RentalPeriod period(int id, int carId, int start, int end, LocalDate returnDate) {
+
+        return new RentalPeriod() {
+            @Override
+            public int getId() {
+                return id;
+            }
+
+            @Override
+            public int getCarId() {
+                return carId;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return day(start);
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return day(end);
+            }
+
+            @Override
+            public LocalDate getReturnDate() {
+                return returnDate;
+            }
+        };
+    }
+}
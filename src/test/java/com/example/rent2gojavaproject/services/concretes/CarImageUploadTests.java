@@ -0,0 +1,163 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
+import com.example.rent2gojavaproject.models.*;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.services.abstracts.CarService;
+import com.example.rent2gojavaproject.services.dtos.requests.carRequest.AddCarRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.carRequest.UpdateCarRequest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CarImageUploadTests {
+
+    private static final byte[] IMAGE = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3, 4};
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private int modelId;
+    private int colorId;
+
+    @BeforeEach
+    void setUp() {
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Model model = persistModel(this.entityManager, "Upload Brand", "Upload Model");
+            Color color = persistColor(this.entityManager, "Upload Color");
+            this.modelId = model.getId();
+            this.colorId = color.getId();
+        });
+    }
+
+    @Test
+    void imageIsStoredAfterTheCarIsSaved() throws Exception {
+
+        String plate = "34UPL" + System.nanoTime() % 1000;
+        this.carService.addCar(carRequest(plate), new MockMultipartFile("file", "car.png", "image/png", IMAGE));
+
+        Car saved = this.carRepository.findAll().stream()
+                .filter(car -> car.getPlate().equals(plate)).findFirst().orElseThrow();
+        awaitTrue(() -> this.carRepository.findById(saved.getId()).orElseThrow().getImageStatus() == ImageStatus.READY);
+
+        Car car = this.carRepository.findById(saved.getId()).orElseThrow();
+        assertArrayEquals(IMAGE, Files.readAllBytes(Path.of(URI.create(car.getImageUrl()))));
+    }
+
+    @Test
+    void thumbnailIsStoredNextToTheImage() throws Exception {
+
+        String plate = "34THM" + System.nanoTime() % 1000;
+        this.carService.addCar(carRequest(plate), new MockMultipartFile("file", "car.png", "image/png", png(1600, 1200)));
+
+        Car saved = this.carRepository.findAll().stream()
+                .filter(car -> car.getPlate().equals(plate)).findFirst().orElseThrow();
+        awaitTrue(() -> this.carRepository.findById(saved.getId()).orElseThrow().getImageStatus() == ImageStatus.READY);
+
+        Car car = this.carRepository.findById(saved.getId()).orElseThrow();
+        BufferedImage thumbnail = ImageIO.read(Path.of(URI.create(car.getThumbnailUrl())).toFile());
+        assertEquals(160, thumbnail.getWidth());
+        assertEquals(120, thumbnail.getHeight());
+        assertTrue(car.getThumbnailUrl().endsWith(plate + "_thumb"));
+    }
+
+    @Test
+    void imageStateSurvivesACarUpdate() throws Exception {
+
+        String plate = "34UPD" + System.nanoTime() % 1000;
+        this.carService.addCar(carRequest(plate), new MockMultipartFile("file", "car.png", "image/png", png(800, 600)));
+
+        Car saved = this.carRepository.findAll().stream()
+                .filter(car -> car.getPlate().equals(plate)).findFirst().orElseThrow();
+        awaitTrue(() -> this.carRepository.findById(saved.getId()).orElseThrow().getImageStatus() == ImageStatus.READY);
+        Car uploaded = this.carRepository.findById(saved.getId()).orElseThrow();
+
+        this.carService.updateCar(new UpdateCarRequest(uploaded.getId(), 2500, 2022, 450, "35UPD" + System.nanoTime() % 1000,
+                this.modelId, this.colorId, BodyType.SEDAN, FuelType.values()[0], GearType.values()[0], "4", "120",
+                uploaded.getImageUrl(), true));
+
+        Car updated = this.carRepository.findById(saved.getId()).orElseThrow();
+        assertEquals(2500, updated.getKilometer());
+        assertEquals(ImageStatus.READY, updated.getImageStatus());
+        assertEquals(uploaded.getImageUrl(), updated.getImageUrl());
+        assertNotNull(uploaded.getThumbnailUrl());
+        assertEquals(uploaded.getThumbnailUrl(), updated.getThumbnailUrl());
+    }
+
+    @Test
+    void invalidCarIsRejectedBeforeTheImageIsTouched() {
+
+        MockMultipartFile notAnImage = new MockMultipartFile("file", "car.txt", "text/plain", IMAGE);
+
+        assertThrows(BusinessRuleException.class, () -> this.carService.addCar(carRequest("34BAD01"), notAnImage));
+        assertFalse(this.carRepository.existsByPlate("34BAD01"));
+    }
+
+    @Test
+    void invalidCarTypesNeverHoldAnUploadPermit() throws Exception {
+
+        for (int i = 0; i < 70; i++) {
+            AddCarRequest request = carRequest("34TYP" + i);
+            request.setBodyType("TRUCK");
+            assertThrows(BusinessRuleException.class, () -> this.carService.addCar(request,
+                    new MockMultipartFile("file", "car.png", "image/png", IMAGE)));
+        }
+
+        String plate = "34TYP" + System.nanoTime() % 1000;
+        this.carService.addCar(carRequest(plate), new MockMultipartFile("file", "car.png", "image/png", IMAGE));
+        assertTrue(this.carRepository.existsByPlate(plate));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", png);
+        return png.toByteArray();
+    }
+
+    private AddCarRequest carRequest(String plate) {
+        return new AddCarRequest(1000, 2022, 400, plate, this.modelId, this.colorId,
+                BodyType.SEDAN.name(), FuelType.values()[0].name(), GearType.values()[0].name(), "4", "120");
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.utilities.jobs.JobHandler;
+import com.example.rent2gojavaproject.models.Job;
+import com.example.rent2gojavaproject.models.JobStatus;
+import com.example.rent2gojavaproject.repositories.JobRepository;
+import com.example.rent2gojavaproject.services.abstracts.JobService;
+import com.example.rent2gojavaproject.services.dtos.responses.jobResponse.GetJobStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "jobs.workers=4",
+        "jobs.batch-size=5",
+        "jobs.poll-interval-ms=10",
+        "jobs.initial-backoff-ms=10",
+        "jobs.max-attempts=3"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class JobQueueTests {
+
+    private static final int JOBS = 300;
+
+    private static final Map<Integer, AtomicInteger> EXECUTIONS = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void everyJobRunsExactlyOnceAcrossWorkers() throws InterruptedException {
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            ids.add(this.jobService.enqueue("count", i));
+        }
+
+        awaitTrue(() -> this.jobRepository.findAllById(ids).stream()
+                .allMatch(job -> job.getStatus() == JobStatus.SUCCEEDED));
+
+        assertEquals(JOBS, EXECUTIONS.size());
+        EXECUTIONS.forEach((payload, count) -> assertEquals(1, count.get(), () -> "Job " + payload + " ran " + count));
+    }
+
+    @Test
+    void failingJobIsRetriedThenDeadLettered() throws Exception {
+
+        long id = this.jobService.enqueue("fail", 1);
+
+        awaitTrue(() -> this.jobRepository.findById(id).map(Job::getStatus).orElseThrow() == JobStatus.DEAD);
+        Job job = this.jobRepository.findById(id).orElseThrow();
+        assertEquals(3, job.getAttempts());
+        assertTrue(job.getLastError().contains("boom"));
+
+        GetJobStatsResponse stats = this.jobService.getStats().getData();
+        assertTrue(stats.getStatusCounts().get(JobStatus.DEAD) >= 1);
+        assertTrue(stats.getTypes().stream()
+                .anyMatch(type -> type.getType().equals("fail") && type.getRetried() == 2 && type.getDeadLettered() == 1));
+
+        this.mockMvc.perform(get("/api/jobs/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.type").value("fail"))
+                .andExpect(jsonPath("$.data.status").value("DEAD"))
+                .andExpect(jsonPath("$.data.attempts").value(3));
+
+        this.jobService.retry(id);
+        awaitTrue(() -> this.jobService.getStats().getData().getTypes().stream()
+                .anyMatch(type -> type.getType().equals("fail") && type.getDeadLettered() == 2));
+        awaitTrue(() -> this.jobRepository.findById(id).map(Job::getStatus).orElseThrow() == JobStatus.DEAD);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+
+    @TestConfiguration
+    static class Handlers {
+
+        @Bean
+        JobHandler<Integer> countingJobHandler() {
+            return new TestJobHandler("count", payload -> EXECUTIONS
+                    .computeIfAbsent(payload, key -> new AtomicInteger()).incrementAndGet());
+        }
+
+        @Bean
+        JobHandler<Integer> failingJobHandler() {
+            return new TestJobHandler("fail", payload -> {
+                throw new IllegalStateException("boom");
+            });
+        }
+    }
+
+    private record TestJobHandler(String type, Consumer<Integer> action) implements JobHandler<Integer> {
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public Class<Integer> getPayloadType() {
+            return Integer.class;
+        }
+
+        @Override
+        public void handle(Integer payload) {
+            action.accept(payload);
+        }
+    }
+}
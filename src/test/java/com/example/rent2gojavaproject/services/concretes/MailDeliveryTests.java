@@ -0,0 +1,110 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.utilities.mail.MailMessage;
+import com.example.rent2gojavaproject.core.utilities.mail.MailStatus;
+import com.example.rent2gojavaproject.services.abstracts.MailService;
+import com.example.rent2gojavaproject.services.jobs.VerificationMailJob;
+import com.example.rent2gojavaproject.services.jobs.VerificationMailJobHandler;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "spring.mail.port=3025",
+        "mail.delivery.initial-backoff-ms=100"
+})
+class MailDeliveryTests {
+
+    private static final int MESSAGES = 50;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private VerificationMailJobHandler verificationMailJobHandler;
+
+    @Test
+    void queuedMailIsDeliveredOffTheCallerThread() throws Exception {
+
+        List<MailMessage> messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(this.mailService.sendVerificationEmail("user" + i + "@rent2go.test",
+                    "Name" + i, "<Surname>", "http://localhost/api/verifyEmail?token=" + i));
+        }
+
+        awaitTrue(() -> messages.stream().allMatch(message -> message.getStatus() == MailStatus.SENT));
+        assertTrue(greenMail.waitForIncomingEmail(5_000, MESSAGES));
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(MESSAGES, received.length);
+        String body = GreenMailUtil.getBody(received[0]);
+        assertTrue(body.contains("&lt;Surname&gt;"));
+        assertTrue(body.contains("verifyEmail?token="));
+    }
+
+    @Test
+    void failedMailIsRetriedUntilTheServerAcceptsIt() throws Exception {
+
+        greenMail.stop();
+        MailMessage message = this.mailService.sendResetPasswordEmail("retry@rent2go.test",
+                "Retry", "User", "http://localhost/api/resetPassword?token=1");
+
+        awaitTrue(() -> message.getStatus() == MailStatus.RETRYING);
+        greenMail.start();
+
+        awaitTrue(() -> message.getStatus() == MailStatus.SENT);
+        assertTrue(message.getAttempts() > 1);
+        assertTrue(greenMail.waitForIncomingEmail(5_000, 1));
+        assertEquals("Reset Password", greenMail.getReceivedMessages()[0].getSubject());
+    }
+
+    @Test
+    void verificationJobOnlyHandsTheMailToTheQueue() throws Exception {
+
+        greenMail.stop();
+        long start = System.nanoTime();
+        this.verificationMailJobHandler.handle(new VerificationMailJob("queued@rent2go.test", "Queued", "User",
+                "http://localhost/api/verifyEmail?token=queued"));
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+
+        greenMail.start();
+        assertTrue(greenMail.waitForIncomingEmail(10_000, 1));
+        Thread.sleep(500);
+        assertEquals(1, greenMail.getReceivedMessages().length);
+        assertEquals("Email Verification", greenMail.getReceivedMessages()[0].getSubject());
+
+        MailService fullQueue = mock(MailService.class);
+        MailMessage rejected = new MailMessage("full@rent2go.test", "Email Verification", "text", "html");
+        rejected.rejected("Mail queue is full");
+        when(fullQueue.sendVerificationEmail(any(), any(), any(), any())).thenReturn(rejected);
+        assertThrows(IllegalStateException.class, () -> new VerificationMailJobHandler(fullQueue)
+                .handle(new VerificationMailJob("full@rent2go.test", "Full", "Queue", "http://localhost")));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.utilities.paging.CursorPageRequest;
+import com.example.rent2gojavaproject.core.utilities.results.DataResult;
+import com.example.rent2gojavaproject.models.*;
+import com.example.rent2gojavaproject.services.abstracts.BillService;
+import com.example.rent2gojavaproject.services.abstracts.BrandService;
+import com.example.rent2gojavaproject.services.abstracts.CarService;
+import com.example.rent2gojavaproject.services.abstracts.CityService;
+import com.example.rent2gojavaproject.services.abstracts.ColorService;
+import com.example.rent2gojavaproject.services.abstracts.CustomerService;
+import com.example.rent2gojavaproject.services.abstracts.EmployeeService;
+import com.example.rent2gojavaproject.services.abstracts.RentalService;
+import com.example.rent2gojavaproject.services.dtos.requests.colorRequest.AddColorRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.AddRentalRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.QuoteRentalItem;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.QuoteRentalsRequest;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.carResponse.GetCarResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.colorResponse.GetColorListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.customerResponse.GetCustomerResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.employeeResponse.GetEmployeeResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalListResponse;
+import com.example.rent2gojavaproject.services.dtos.responses.rentalResponse.GetRentalQuoteResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.rent2gojavaproject.TestFixtures.car;
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class QueryStatementCountTests {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private BillService billService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ColorService colorService;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DiscountManager discountManager;
+
+    private Statistics statistics;
+
+    private Car car;
+    private Customer customer;
+    private Employee employee;
+    private Rental rental;
+    private Bill bill;
+
+    @BeforeEach
+    void setUp() {
+
+        Discount discount = new Discount();
+        discount.setDiscountCode("DEFAULT");
+        discount.setPercentage(10.0);
+        this.entityManager.persist(discount);
+
+        City city = new City();
+        city.setCityName("Istanbul");
+        this.entityManager.persist(city);
+        District district = new District();
+        district.setDistrictName("Kadikoy");
+        district.setCity(city);
+        this.entityManager.persist(district);
+
+        for (int i = 0; i < ROWS; i++) {
+            Model model = persistModel(this.entityManager, "Brand " + i, "Model " + i);
+            Color color = persistColor(this.entityManager, "Color " + i);
+
+            Car car = car("34ABC" + (100 + i), model, color);
+            car.setKilometer(1000 * i);
+            car.setYear(2020);
+            car.setDailyPrice(500 + i);
+            this.entityManager.persist(car);
+
+            User user = User.builder().name("Name " + i).surname("Surname " + i).phoneNumber("555000000" + i)
+                    .email("user" + i + "@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build();
+            this.entityManager.persist(user);
+
+            Customer customer = new Customer();
+            customer.setNationalityId("1000000000" + i);
+            customer.setAddress("Address " + i);
+            customer.setUser(user);
+            customer.setCity(city);
+            customer.setDistrict(district);
+            this.entityManager.persist(customer);
+
+            Employee employee = new Employee();
+            employee.setSalary(20000);
+            employee.setAddress("Office " + i);
+            employee.setUser(user);
+            employee.setCity(city);
+            employee.setDistrict(district);
+            this.entityManager.persist(employee);
+
+            Rental rental = new Rental();
+            rental.setStartDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            rental.setEndDate(LocalDate.of(2024, 1, 5).plusDays(i));
+            rental.setStartKilometer(car.getKilometer());
+            rental.setTotalPrice(2000);
+            rental.setCar(car);
+            rental.setCustomer(customer);
+            rental.setEmployee(employee);
+            rental.setDiscount(discount);
+            this.entityManager.persist(rental);
+
+            this.car = car;
+            this.customer = customer;
+            this.employee = employee;
+            this.rental = rental;
+        }
+
+        this.bill = new Bill();
+        this.bill.setNo("B-1");
+        this.bill.setRentalStartDate(this.rental.getStartDate());
+        this.bill.setRentalEndDate(this.rental.getEndDate());
+        this.bill.setTotalRentalDate((short) 4);
+        this.bill.setRentalPrice(this.rental.getTotalPrice());
+        this.bill.setUser(this.customer.getUser());
+        this.entityManager.persist(this.bill);
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.cacheManager.getCacheNames().forEach(name -> this.cacheManager.getCache(name).clear());
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    void carPagesTakeOneStatementEach() {
+
+        DataResult<List<GetCarListResponse>> first = this.carService.getAllCars(new CursorPageRequest(null, 3, "id", "asc"));
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(3, first.getData().size());
+        assertNotNull(first.getData().get(0).getModel().getBrandName());
+        assertNotNull(first.getData().get(0).getColorName());
+        assertNotNull(first.getNext());
+
+        this.statistics.clear();
+        DataResult<List<GetCarListResponse>> second = this.carService.getAllCars(new CursorPageRequest(first.getNext(), 3, "id", "asc"));
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(ROWS - 3, second.getData().size());
+        assertNull(second.getNext());
+    }
+
+    @Test
+    void rentalPageTakesOneStatement() {
+
+        DataResult<List<GetRentalListResponse>> page = this.rentalService.getAllRentals(new CursorPageRequest(null, 10, "startDate", "desc"));
+
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(ROWS, page.getData().size());
+        GetRentalListResponse latest = page.getData().get(0);
+        assertEquals(LocalDate.of(2024, 1, 1).plusDays(ROWS - 1), latest.getStartDate());
+        assertEquals("Brand " + (ROWS - 1), latest.getCar().getModel().getBrandName());
+        assertEquals("Name " + (ROWS - 1), latest.getCustomer().getName());
+        assertEquals("Kadikoy", latest.getEmployee().getDistrict());
+        assertEquals(10.0, latest.getDiscountPercentage());
+    }
+
+    @Test
+    void activeFilterIsPartOfTheQuery() {
+
+        int colorId = this.car.getColor().getId();
+        this.colorService.deleteColor(colorId);
+        this.entityManager.flush();
+        this.statistics.clear();
+
+        DataResult<List<GetColorListResponse>> deleted = this.colorService.findAll(false, new CursorPageRequest(null, 50, "id", "desc"));
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertTrue(deleted.getData().stream().anyMatch(color -> color.getId() == colorId));
+
+        DataResult<List<GetColorListResponse>> active = this.colorService.findAll(true, new CursorPageRequest(null, 50, "id", "desc"));
+        assertTrue(active.getData().stream().noneMatch(color -> color.getId() == colorId));
+
+        this.statistics.clear();
+        DataResult<List<GetCarListResponse>> cars = this.carService.findAll(true, new CursorPageRequest(null, 2, "id", "asc"));
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(2, cars.getData().size());
+        assertNotNull(cars.getNext());
+    }
+
+    @Test
+    void customerAndEmployeePagesTakeOneStatementEach() {
+
+        this.customerService.getAllCustomer(new CursorPageRequest(null, 10, "id", "asc"));
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+
+        this.statistics.clear();
+        this.employeeService.getAllEmployees(new CursorPageRequest(null, 10, "id", "asc"));
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void detailReadsTakeOneStatementEach() {
+
+        GetCarResponse car = this.carService.getById(this.car.getId()).getData();
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals("Brand " + (ROWS - 1), car.getModel().getBrandName());
+        assertEquals("Color " + (ROWS - 1), car.getColorName());
+
+        this.statistics.clear();
+        GetRentalResponse rental = this.rentalService.getById(this.rental.getId()).getData();
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(this.car.getId(), rental.getCarId());
+        assertEquals(this.customer.getId(), rental.getCustomerId());
+        assertEquals(10.0, rental.getDiscountPercentage());
+
+        this.statistics.clear();
+        GetCustomerResponse customer = this.customerService.getById(this.customer.getId()).getData();
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals("Kadikoy", customer.getDistrict());
+
+        this.statistics.clear();
+        GetEmployeeResponse employee = this.employeeService.getById(this.employee.getId()).getData();
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals("Istanbul", employee.getCity());
+
+        this.statistics.clear();
+        assertEquals("Name " + (ROWS - 1), this.billService.getById(this.bill.getId()).getData().getName());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void referenceDataIsReadOnceUntilWritten() {
+
+        assertEquals(ROWS, this.brandService.getAllBrands().getData().size());
+        this.cityService.getAllCities();
+        assertEquals(2, this.statistics.getPrepareStatementCount());
+
+        this.statistics.clear();
+        assertEquals(ROWS, this.brandService.getAllBrands().getData().size());
+        this.cityService.getAllCities();
+        assertEquals(ROWS, this.colorService.getAllColors().getData().size());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+
+        this.colorService.addColor(new AddColorRequest("Teal"));
+        this.entityManager.flush();
+        this.statistics.clear();
+        assertEquals(ROWS + 1, this.colorService.getAllColors().getData().size());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void rentalAdmissionTakesThreeStatements() {
+
+        this.discountManager.reload();
+        this.statistics.clear();
+
+        LocalDate startDate = LocalDate.now().plusDays(30);
+        this.rentalService.addRental(new AddRentalRequest(startDate, startDate.plusDays(2),
+                this.car.getId(), this.customer.getId(), this.employee.getId(), "UNKNOWN"));
+        this.entityManager.flush();
+
+        assertEquals(3, this.statistics.getPrepareStatementCount());
+        assertEquals(0, this.statistics.getEntityStatistics(Discount.class.getName()).getLoadCount());
+        assertEquals(0, Arrays.stream(this.statistics.getQueries()).filter(query -> query.contains("Discount")).count());
+
+        Rental added = this.entityManager.createQuery("select r from Rental r where r.startDate = :startDate", Rental.class)
+                .setParameter("startDate", startDate).getSingleResult();
+        assertEquals(this.car.getDailyPrice() * 2 * 0.9, added.getTotalPrice(), 0.001);
+        assertEquals("DEFAULT", added.getDiscount().getDiscountCode());
+    }
+
+    @Test
+    void quoteBatchTakesOneStatement() {
+
+        this.discountManager.reload();
+        this.statistics.clear();
+
+        LocalDate startDate = LocalDate.of(2025, 3, 1);
+        List<QuoteRentalItem> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(new QuoteRentalItem(this.car.getId(), startDate, startDate.plusDays(1 + i % 3), null));
+        }
+        items.add(new QuoteRentalItem(-1, startDate, startDate.plusDays(1), null));
+        items.add(new QuoteRentalItem(this.car.getId(), startDate, startDate.minusDays(1), null));
+
+        List<GetRentalQuoteResponse> quotes = this.rentalService.quoteRentals(new QuoteRentalsRequest(items)).getData();
+
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(items.size(), quotes.size());
+        assertEquals("DEFAULT", quotes.get(0).getDiscountCode());
+        assertEquals(45360, quotes.get(0).getTotalPriceCents());
+        assertEquals(136080, quotes.get(2).getTotalPriceCents());
+        assertNull(quotes.get(0).getError());
+        assertNotNull(quotes.get(1000).getError());
+        assertNotNull(quotes.get(1001).getError());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.models.*;
+import com.example.rent2gojavaproject.services.abstracts.RentalService;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.AddRentalRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.rent2gojavaproject.TestFixtures.persistCar;
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RentalAdmissionBenchmarkTests {
+
+    private static final int CARS = 20;
+    private static final int BOOKINGS_PER_CAR = 25;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private DiscountManager discountManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Integer> carIds = new ArrayList<>();
+    private int customerId;
+    private int employeeId;
+
+    @Test
+    void admissionsTakeThreeStatementsEach() throws Exception {
+
+        this.transactionTemplate.executeWithoutResult(status -> persistFixture());
+        this.discountManager.reload();
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+
+        measure("sequential", 0, firstDay, 1);
+        measure("parallel", BOOKINGS_PER_CAR * 3, firstDay, THREADS);
+    }
+
+    /**
+     * Books every car {@link #BOOKINGS_PER_CAR} times in back-to-back two-day periods, so every
+     * admission succeeds and each one goes through the full lock, validation and insert path.
+     */
+    private void measure(String label, int dayOffset, LocalDate firstDay, int threads) throws Exception {
+
+        List<AddRentalRequest> requests = new ArrayList<>();
+        for (int booking = 0; booking < BOOKINGS_PER_CAR; booking++) {
+            for (int carId : this.carIds) {
+                LocalDate startDate = firstDay.plusDays(dayOffset + booking * 3L);
+                requests.add(new AddRentalRequest(startDate, startDate.plusDays(2), carId, this.customerId, this.employeeId, null));
+            }
+        }
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        List<Future<?>> admissions = new ArrayList<>();
+        for (AddRentalRequest request : requests) {
+            admissions.add(executor.submit(() -> this.rentalService.addRental(request)));
+        }
+        for (Future<?> admission : admissions) {
+            admission.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        long statements = statistics.getPrepareStatementCount();
+        log.info("{}: {} admissions in {} ms, {} statements", label, requests.size(), elapsed / 1_000_000, statements);
+        assertEquals(requests.size(), statistics.getEntityInsertCount());
+        assertTrue(statements <= 3L * requests.size() + requests.size() / 50 + 2, label + " took " + statements + " statements");
+    }
+
+    private void persistFixture() {
+
+        Discount discount = new Discount();
+        discount.setDiscountCode("DEFAULT");
+        discount.setPercentage(0.0);
+        this.entityManager.persist(discount);
+        City city = new City();
+        city.setCityName("Izmir");
+        this.entityManager.persist(city);
+        District district = new District();
+        district.setDistrictName("Bornova");
+        district.setCity(city);
+        this.entityManager.persist(district);
+
+        Model model = persistModel(this.entityManager, "Admission Brand", "Admission Model");
+        Color color = persistColor(this.entityManager, "Admission Color");
+        for (int i = 0; i < CARS; i++) {
+            Car car = persistCar(this.entityManager, "35ADM" + (100 + i), model, color);
+            this.carIds.add(car.getId());
+        }
+
+        User user = User.builder().name("Admission").surname("Benchmark").phoneNumber("5550001122")
+                .email("admission@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build();
+        this.entityManager.persist(user);
+        Customer customer = new Customer();
+        customer.setNationalityId("40000000000");
+        customer.setAddress("Address");
+        customer.setUser(user);
+        customer.setCity(city);
+        customer.setDistrict(district);
+        this.entityManager.persist(customer);
+        this.customerId = customer.getId();
+        Employee employee = new Employee();
+        employee.setSalary(20000);
+        employee.setAddress("Office");
+        employee.setUser(user);
+        employee.setCity(city);
+        employee.setDistrict(district);
+        this.entityManager.persist(employee);
+        this.employeeId = employee.getId();
+    }
+}
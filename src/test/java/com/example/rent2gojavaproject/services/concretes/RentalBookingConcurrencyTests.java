@@ -0,0 +1,189 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
+import com.example.rent2gojavaproject.models.*;
+import com.example.rent2gojavaproject.services.abstracts.RentalService;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.AddRentalRequest;
+import com.example.rent2gojavaproject.services.dtos.requests.rentalRequest.UpdateRentalRequest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.example.rent2gojavaproject.TestFixtures.persistCar;
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RentalBookingConcurrencyTests {
+
+    private static final int CARS = 8;
+    private static final int BOOKINGS = 4000;
+    private static final int THREADS = 32;
+    private static final int SEEDED = 400;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private DiscountManager discountManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Integer> carIds = new ArrayList<>();
+    private int customerId;
+    private int employeeId;
+
+    @BeforeEach
+    void setUp() {
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Discount discount = new Discount();
+            discount.setDiscountCode("DEFAULT");
+            discount.setPercentage(0.0);
+            this.entityManager.persist(discount);
+
+            City city = new City();
+            city.setCityName("Ankara");
+            this.entityManager.persist(city);
+            District district = new District();
+            district.setDistrictName("Cankaya");
+            district.setCity(city);
+            this.entityManager.persist(district);
+
+            Model model = persistModel(this.entityManager, "Brand", "Model");
+            Color color = persistColor(this.entityManager, "Color");
+
+            for (int i = 0; i < CARS; i++) {
+                Car car = persistCar(this.entityManager, "06STR" + (100 + i), model, color);
+                this.carIds.add(car.getId());
+            }
+
+            User user = User.builder().name("Stress").surname("Test").phoneNumber("5550000000")
+                    .email("stress@rent2go.test").password("secret").role(Role.USER).isEnabled(true).build();
+            this.entityManager.persist(user);
+
+            Customer customer = new Customer();
+            customer.setNationalityId("20000000000");
+            customer.setAddress("Address");
+            customer.setUser(user);
+            customer.setCity(city);
+            customer.setDistrict(district);
+            this.entityManager.persist(customer);
+            this.customerId = customer.getId();
+
+            Employee employee = new Employee();
+            employee.setSalary(20000);
+            employee.setAddress("Office");
+            employee.setUser(user);
+            employee.setCity(city);
+            employee.setDistrict(district);
+            this.entityManager.persist(employee);
+            this.employeeId = employee.getId();
+        });
+
+        this.discountManager.reload();
+    }
+
+    @Test
+    void parallelBookingsAndUpdatesNeverOverlap() throws InterruptedException {
+
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+        Random random = new Random(42);
+        List<AddRentalRequest> requests = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            LocalDate startDate = firstDay.plusDays(random.nextInt(365));
+            requests.add(new AddRentalRequest(startDate, startDate.plusDays(1 + random.nextInt(7)),
+                    this.carIds.get(random.nextInt(CARS)), this.customerId, this.employeeId, null));
+        }
+
+        int seeded = 0;
+        for (AddRentalRequest request : requests.subList(0, SEEDED)) {
+            try {
+                this.rentalService.addRental(request);
+                seeded++;
+            } catch (BusinessRuleException exception) {
+                // overlapping seed, skipped
+            }
+        }
+        List<Integer> rentalIds = this.transactionTemplate.execute(status -> this.entityManager
+                .createQuery("select r.id from Rental r", Integer.class).getResultList());
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (AddRentalRequest request : requests.subList(SEEDED, BOOKINGS)) {
+            LocalDate startDate = firstDay.plusDays(random.nextInt(365));
+            UpdateRentalRequest update = new UpdateRentalRequest(rentalIds.get(random.nextInt(rentalIds.size())),
+                    startDate, startDate.plusDays(1 + random.nextInt(7)), null, 1000,
+                    this.carIds.get(random.nextInt(CARS)), this.customerId, this.employeeId, true);
+            boolean isUpdate = random.nextInt(4) == 0;
+
+            executor.execute(() -> {
+                try {
+                    if (isUpdate) {
+                        this.rentalService.updateRental(update);
+                        updated.incrementAndGet();
+                    } else {
+                        this.rentalService.addRental(request);
+                        admitted.incrementAndGet();
+                    }
+                } catch (BusinessRuleException exception) {
+                    rejected.incrementAndGet();
+                } catch (Throwable throwable) {
+                    failures.add(throwable);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+
+        assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+        assertEquals(BOOKINGS - SEEDED, admitted.get() + updated.get() + rejected.get());
+        assertTrue(admitted.get() > 0);
+        assertTrue(updated.get() > 0);
+        assertTrue(rejected.get() > 0);
+
+        List<Rental> rentals = this.transactionTemplate.execute(status -> this.entityManager
+                .createQuery("select r from Rental r join fetch r.car where r.isActive = true", Rental.class)
+                .getResultList());
+        assertEquals(seeded + admitted.get(), rentals.size());
+
+        Map<Integer, List<Rental>> rentalsByCar = rentals.stream()
+                .collect(Collectors.groupingBy(rental -> rental.getCar().getId()));
+        rentalsByCar.values().forEach(carRentals -> {
+            carRentals.sort(Comparator.comparing(Rental::getStartDate));
+            for (int i = 1; i < carRentals.size(); i++) {
+                Rental previous = carRentals.get(i - 1);
+                Rental next = carRentals.get(i);
+                assertTrue(!next.getStartDate().isBefore(previous.getEndDate()),
+                        () -> "Rentals " + previous.getId() + " and " + next.getId() + " overlap");
+            }
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.rent2gojavaproject.services.concretes;
+
+import com.example.rent2gojavaproject.models.*;
+import com.example.rent2gojavaproject.repositories.CarRepository;
+import com.example.rent2gojavaproject.services.abstracts.BrandService;
+import com.example.rent2gojavaproject.services.abstracts.CarAvailabilityService;
+import com.example.rent2gojavaproject.services.abstracts.CarService;
+import com.example.rent2gojavaproject.services.dtos.requests.brandRequest.UpdateBrandRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.rent2gojavaproject.TestFixtures.car;
+import static com.example.rent2gojavaproject.TestFixtures.persistCar;
+import static com.example.rent2gojavaproject.TestFixtures.persistColor;
+import static com.example.rent2gojavaproject.TestFixtures.persistModel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionBoundaryTests {
+
+    private static final LocalDate FROM = LocalDate.now().plusDays(1);
+    private static final LocalDate UNTIL = FROM.plusDays(3);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private CarAvailabilityService carAvailabilityService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private int carId;
+    private int brandId;
+
+    @BeforeEach
+    void setUp() {
+
+        this.carId = this.transactionTemplate.execute(status -> {
+            Model model = persistModel(this.entityManager, "Boundary Brand", "Boundary Model");
+            Color color = persistColor(this.entityManager, "Boundary Color");
+            Car car = persistCar(this.entityManager, "06TXB" + System.nanoTime() % 1000, model, color);
+            this.brandId = model.getBrand().getId();
+            return car.getId();
+        });
+        this.carAvailabilityService.addCar(this.carId);
+    }
+
+    @Test
+    void lazyAssociationsAreMappedWithoutOpenSessionInView() throws Exception {
+
+        assertEquals(0, this.applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class).length);
+
+        this.mockMvc.perform(get("/api/cars/" + this.carId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.model.name").value("Boundary Model"))
+                .andExpect(jsonPath("$.data.model.brandName").value("Boundary Brand"));
+    }
+
+    @Test
+    void rolledBackDeleteLeavesTheAvailabilityIndexAlone() {
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.carService.deleteCar(this.carId);
+            status.setRollbackOnly();
+        });
+        assertTrue(this.carAvailabilityService.isAvailable(this.carId, FROM, UNTIL));
+        assertTrue(this.carRepository.findById(this.carId).orElseThrow().isActive());
+
+        this.carService.deleteCar(this.carId);
+        assertFalse(this.carAvailabilityService.isAvailable(this.carId, FROM, UNTIL));
+
+        Car car = this.carRepository.findById(this.carId).orElseThrow();
+        assertFalse(car.isActive());
+        assertNotNull(car.getDeletedAt());
+    }
+
+    @Test
+    void brandCascadeTakesTheSameStatementsForAnyFleetSize() {
+
+        List<Integer> carIds = this.transactionTemplate.execute(status -> {
+            Car fixture = this.entityManager.find(Car.class, this.carId);
+            List<Integer> ids = new ArrayList<>(List.of(this.carId));
+            for (int i = 0; i < 20; i++) {
+                Car car = car("CSC" + i + "-" + System.nanoTime(), fixture.getModel(), fixture.getColor());
+                car.setKilometer(i);
+                this.entityManager.persist(car);
+                ids.add(car.getId());
+            }
+            return ids;
+        });
+        carIds.forEach(this.carAvailabilityService::addCar);
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        this.brandService.updateBrand(new UpdateBrandRequest(this.brandId, "Cascade Brand", false));
+        assertTrue(statistics.getPrepareStatementCount() < 10);
+        for (int id : carIds) {
+            assertFalse(this.carRepository.findById(id).orElseThrow().isActive());
+            assertFalse(this.carAvailabilityService.isAvailable(id, FROM, UNTIL));
+        }
+
+        this.brandService.updateBrand(new UpdateBrandRequest(this.brandId, "Revived Brand", true));
+        assertTrue(this.carRepository.findById(this.carId).orElseThrow().isActive());
+        assertTrue(this.carAvailabilityService.isAvailable(this.carId, FROM, UNTIL));
+
+        statistics.clear();
+        this.brandService.deleteBrand(this.brandId);
+        assertTrue(statistics.getPrepareStatementCount() < 10);
+        for (int id : carIds) {
+            Car car = this.carRepository.findById(id).orElseThrow();
+            assertFalse(car.isActive());
+            assertNotNull(car.getDeletedAt());
+        }
+        assertFalse(this.carAvailabilityService.isAvailable(this.carId, FROM, UNTIL));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.rent2gojavaproject.services.rules;
+
+import com.example.rent2gojavaproject.core.exceptions.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RentalBusinessRulesTests {
+
+    private final RentalBusinessRules rules = new RentalBusinessRules(null, null, null, null, null);
+
+    @Test
+    void periodLongerThanAMonthIsRejectedByBookingsAndQuotes() {
+
+        LocalDate start = LocalDate.of(2030, 1, 10);
+        LocalDate end = start.plusMonths(1).plusDays(1);
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> this.rules.checkRentalPeriod(start, end));
+        assertEquals(exception.getMessage(), this.rules.checkQuotePeriod(start, end));
+    }
+
+    @Test
+    void maximumPeriodAcrossAMonthBoundaryIsAccepted() {
+
+        LocalDate start = LocalDate.of(2030, 1, 20);
+        LocalDate end = start.plusDays(25);
+
+        assertDoesNotThrow(() -> this.rules.checkRentalPeriod(start, end));
+        assertNull(this.rules.checkQuotePeriod(start, end));
+        assertThrows(BusinessRuleException.class, () -> this.rules.checkRentalPeriod(start, end.plusDays(1)));
+        assertThrows(BusinessRuleException.class, () -> this.rules.checkRentalPeriod(end, start));
+    }
+}